@@ -0,0 +1,83 @@
+package io.github.theforbiddenai.gamefinder;
+
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+
+public class BenchmarkHelper {
+
+    private static final MediaType JSON = MediaType.get("application/json");
+
+    /**
+     * Reads a test fixture into memory so that benchmarks do not measure disk access
+     *
+     * @param path The classpath location of the fixture (i.e. /scraper/steam_data/steam-getitems-test-data.json)
+     * @return The bytes of the fixture
+     */
+    public static byte[] readFixture(String path) {
+        try (InputStream inputStream = BenchmarkHelper.class.getResourceAsStream(path)) {
+            if (inputStream == null) throw new IllegalArgumentException("Unable to find fixture " + path);
+            return inputStream.readAllBytes();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Creates an OkHttpClient that never touches the network. Every request is answered by an interceptor
+     * with the bytes returned by the callable, so the full request/response/parse path is still exercised
+     *
+     * @param callable The callback that determines the response body based on the url path
+     * @return An OkHttpClient that serves fixtures
+     */
+    public static OkHttpClient createFixtureHttpClient(FixtureCallable callable) {
+        return createFixtureHttpClient(callable, Duration.ZERO);
+    }
+
+    /**
+     * Creates an OkHttpClient that never touches the network, but blocks for a fixed latency before answering each
+     * request. This simulates the time a thread spends waiting on a real store page
+     *
+     * @param callable The callback that determines the response body based on the url path
+     * @param latency  How long each request blocks before it is answered
+     * @return An OkHttpClient that serves fixtures
+     */
+    public static OkHttpClient createFixtureHttpClient(FixtureCallable callable, Duration latency) {
+        return new OkHttpClient.Builder()
+                .addInterceptor(chain -> {
+                    if (!latency.isZero()) {
+                        try {
+                            Thread.sleep(latency.toMillis());
+                        } catch (InterruptedException ex) {
+                            Thread.currentThread().interrupt();
+                            throw new InterruptedIOException();
+                        }
+                    }
+
+                    byte[] body = callable.processURL(chain.request().url().encodedPath());
+
+                    return new Response.Builder()
+                            .request(chain.request())
+                            .protocol(Protocol.HTTP_1_1)
+                            .code(body == null ? 404 : 200)
+                            .message(body == null ? "Not Found" : "OK")
+                            .body(ResponseBody.create(body == null ? new byte[0] : body, JSON))
+                            .build();
+                }).build();
+    }
+
+    public interface FixtureCallable {
+
+        byte[] processURL(String urlPath);
+
+    }
+
+}
@@ -0,0 +1,42 @@
+package io.github.theforbiddenai.gamefinder.scraper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.theforbiddenai.gamefinder.BenchmarkHelper;
+import io.github.theforbiddenai.gamefinder.domain.ScraperResult;
+import io.github.theforbiddenai.gamefinder.scraper.impl.EpicGamesScraper;
+import io.github.theforbiddenai.gamefinder.utilities.epicgames.GraphQLClient;
+import io.github.theforbiddenai.gamefinder.utilities.http.HttpTransport;
+import io.github.theforbiddenai.gamefinder.utilities.http.OkHttpTransport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Collection;
+
+@State(Scope.Benchmark)
+public class EpicGamesScraperBenchmark {
+
+    private EpicGamesScraper epicGamesScraper;
+
+    @Setup
+    public void setupScraper() {
+        ObjectMapper mapper = new ObjectMapper();
+        byte[] graphQL = BenchmarkHelper.readFixture("/scraper/epic_games_data/epic-games-scraper-graphql-data.json");
+        byte[] freeGamesPromotions = BenchmarkHelper.readFixture("/scraper/epic_games_data/epic-games-scraper-freeGamesPromotions-data.json");
+
+        HttpTransport transport = new OkHttpTransport(BenchmarkHelper.createFixtureHttpClient(urlPath -> switch (urlPath) {
+            case "/graphql" -> graphQL;
+            case "/freeGamesPromotions" -> freeGamesPromotions;
+            default -> null;
+        }));
+
+        this.epicGamesScraper = new EpicGamesScraper(mapper, new GraphQLClient(mapper, transport), transport);
+    }
+
+    @Benchmark
+    public Collection<ScraperResult> retrieveResults() {
+        return epicGamesScraper.retrieveResults();
+    }
+
+}
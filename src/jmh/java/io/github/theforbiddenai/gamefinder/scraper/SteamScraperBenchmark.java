@@ -0,0 +1,60 @@
+package io.github.theforbiddenai.gamefinder.scraper;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.theforbiddenai.gamefinder.BenchmarkHelper;
+import io.github.theforbiddenai.gamefinder.domain.ScraperResult;
+import io.github.theforbiddenai.gamefinder.scraper.impl.SteamScraper;
+import io.github.theforbiddenai.gamefinder.utilities.json.FilteredJsonReader;
+import io.github.theforbiddenai.gamefinder.utilities.steam.SteamRequests;
+import io.github.theforbiddenai.gamefinder.utilities.steam.StoreItemId;
+import io.github.theforbiddenai.gamefinder.webscraper.SteamWebScraper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+@State(Scope.Benchmark)
+public class SteamScraperBenchmark {
+
+    private SteamScraper steamScraper;
+
+    @Setup
+    public void setupScraper() {
+        ObjectMapper mapper = new ObjectMapper();
+        byte[] gameList = BenchmarkHelper.readFixture("/scraper/steam_data/steam-games-list-test-data.json");
+        byte[] items = BenchmarkHelper.readFixture("/scraper/steam_data/steam-getitems-test-data.json");
+
+        // The responses are parsed on every call so that the benchmark includes the cost of reading the json data
+        SteamRequests stubRequests = new SteamRequests(mapper) {
+            @Override
+            public void getFreeGames(Consumer<JsonNode> itemsConsumer) throws IOException {
+                itemsConsumer.accept(mapper.readTree(gameList).get("items"));
+            }
+
+            @Override
+            public Optional<JsonNode> getItems(List<StoreItemId> ids, Predicate<JsonNode> itemFilter) throws IOException {
+                JsonNode itemsNode = FilteredJsonReader.read(mapper, new ByteArrayInputStream(items), List.of("response", "store_items"), itemFilter);
+                return Optional.of(itemsNode)
+                        .map(node -> node.get("response"))
+                        .map(node -> node.get("store_items"));
+            }
+        };
+
+        this.steamScraper = new SteamScraper(mapper, stubRequests, new SteamWebScraper());
+    }
+
+    @Benchmark
+    public Collection<ScraperResult> retrieveResults() {
+        return steamScraper.retrieveResults();
+    }
+
+}
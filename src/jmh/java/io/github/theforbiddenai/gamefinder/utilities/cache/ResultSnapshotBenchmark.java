@@ -0,0 +1,64 @@
+package io.github.theforbiddenai.gamefinder.utilities.cache;
+
+import io.github.theforbiddenai.gamefinder.domain.Game;
+import io.github.theforbiddenai.gamefinder.domain.Platform;
+import io.github.theforbiddenai.gamefinder.domain.RetrievalKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long a warm-start snapshot takes to load. The snapshot is kept in memory so that the benchmark does not
+ * measure disk access. Loading a few thousand games should stay well under 50 ms
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ResultSnapshotBenchmark {
+
+    @Param({"1000", "5000"})
+    private int gameCount;
+
+    private byte[] snapshot;
+
+    @Setup
+    public void setupSnapshot() throws IOException {
+        List<Game> games = new ArrayList<>(gameCount);
+        for (int i = 0; i < gameCount; i++) {
+            games.add(Game.builder()
+                    .title("Game " + i)
+                    .description("The description of game " + i)
+                    .url("https://store.steampowered.com/app/" + i)
+                    .originalPrice("$19.99")
+                    .platform(Platform.STEAM)
+                    .storeMedia(Map.of("header", "https://cdn.example.com/" + i + "/header.jpg",
+                            "capsule", "https://cdn.example.com/" + i + "/capsule.jpg"))
+                    .media(List.of("https://cdn.example.com/" + i + "/1.jpg", "https://cdn.example.com/" + i + "/2.jpg"))
+                    .expirationEpoch(1_900_000_000L)
+                    .build());
+        }
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ResultSnapshot.write(outputStream, Map.of(RetrievalKey.of(Platform.STEAM), games));
+        this.snapshot = outputStream.toByteArray();
+    }
+
+    @Benchmark
+    public Map<RetrievalKey, List<Game>> readSnapshot() throws IOException {
+        return ResultSnapshot.read(new ByteArrayInputStream(snapshot));
+    }
+
+}
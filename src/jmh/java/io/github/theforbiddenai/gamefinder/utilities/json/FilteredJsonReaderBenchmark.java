@@ -0,0 +1,55 @@
+package io.github.theforbiddenai.gamefinder.utilities.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.theforbiddenai.gamefinder.BenchmarkHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Compares reading a whole response into a tree against streaming it through a {@link FilteredJsonReader}.
+ * Run with the gc profiler (enabled by default) and compare gc.alloc.rate.norm to see the allocation difference
+ */
+@State(Scope.Benchmark)
+public class FilteredJsonReaderBenchmark {
+
+    private ObjectMapper mapper;
+    private byte[] steamItems;
+    private byte[] epicGraphQL;
+
+    @Setup
+    public void setupFixtures() {
+        this.mapper = new ObjectMapper();
+        this.steamItems = BenchmarkHelper.readFixture("/scraper/steam_data/steam-getitems-test-data.json");
+        this.epicGraphQL = BenchmarkHelper.readFixture("/scraper/epic_games_data/epic-games-scraper-graphql-data.json");
+    }
+
+    @Benchmark
+    public JsonNode steamItemsTree() throws IOException {
+        return mapper.readTree(new ByteArrayInputStream(steamItems));
+    }
+
+    @Benchmark
+    public JsonNode steamItemsFiltered() throws IOException {
+        return FilteredJsonReader.read(mapper, new ByteArrayInputStream(steamItems), List.of("response", "store_items"),
+                itemNode -> itemNode.path("best_purchase_option").path("discount_pct").asInt() == 100);
+    }
+
+    @Benchmark
+    public JsonNode epicGraphQLTree() throws IOException {
+        return mapper.readTree(new ByteArrayInputStream(epicGraphQL));
+    }
+
+    @Benchmark
+    public JsonNode epicGraphQLFiltered() throws IOException {
+        return FilteredJsonReader.read(mapper, new ByteArrayInputStream(epicGraphQL), List.of("data", "Catalog", "searchStore", "elements"),
+                gameNode -> gameNode.path("price").path("totalPrice").path("discountPrice").asInt(-1) == 0);
+    }
+
+}
@@ -0,0 +1,56 @@
+package io.github.theforbiddenai.gamefinder.webscraper;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.theforbiddenai.gamefinder.BenchmarkHelper;
+import io.github.theforbiddenai.gamefinder.domain.Game;
+import okio.Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+
+@State(Scope.Benchmark)
+public class GOGWebScraperBenchmark {
+
+    private static final String URL = "https://www.gog.com/en/game/game";
+
+    private GOGWebScraper gogWebScraper;
+    private byte[] html;
+    private JsonNode productCardNode;
+
+    @Setup
+    public void setupScraper() throws IOException {
+        this.gogWebScraper = new GOGWebScraper(new ObjectMapper());
+        this.html = BenchmarkHelper.readFixture("/scraper/gog_data/gog-game-page.html");
+        this.productCardNode = gogWebScraper.processHTML(new Buffer().write(html), URL);
+    }
+
+    @Benchmark
+    public JsonNode processHTML() throws IOException {
+        return gogWebScraper.processHTML(new Buffer().write(html), URL);
+    }
+
+    @Benchmark
+    public Game modifyGameAttributes() {
+        Game game = Game.builder()
+                .url(URL)
+                .build();
+
+        gogWebScraper.modifyGameAttributes(productCardNode, game);
+        return game;
+    }
+
+    @Benchmark
+    public Game processHTMLAndModifyGameAttributes() throws IOException {
+        Game game = Game.builder()
+                .url(URL)
+                .build();
+
+        gogWebScraper.modifyGameAttributes(gogWebScraper.processHTML(new Buffer().write(html), URL), game);
+        return game;
+    }
+
+}
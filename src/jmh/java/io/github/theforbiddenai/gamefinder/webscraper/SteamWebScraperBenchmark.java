@@ -0,0 +1,31 @@
+package io.github.theforbiddenai.gamefinder.webscraper;
+
+import io.github.theforbiddenai.gamefinder.BenchmarkHelper;
+import okio.Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+
+@State(Scope.Benchmark)
+public class SteamWebScraperBenchmark {
+
+    private static final String URL = "https://store.steampowered.com/";
+
+    private SteamWebScraper steamWebScraper;
+    private byte[] html;
+
+    @Setup
+    public void setupScraper() {
+        this.steamWebScraper = new SteamWebScraper();
+        this.html = BenchmarkHelper.readFixture("/scraper/steam_data/steam-app-page-with-discount.html");
+    }
+
+    @Benchmark
+    public Long processHTML() throws IOException {
+        return steamWebScraper.processHTML(new Buffer().write(html), URL);
+    }
+
+}
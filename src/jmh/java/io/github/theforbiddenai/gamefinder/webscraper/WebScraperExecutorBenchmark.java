@@ -0,0 +1,72 @@
+package io.github.theforbiddenai.gamefinder.webscraper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.theforbiddenai.gamefinder.BenchmarkHelper;
+import io.github.theforbiddenai.gamefinder.GameFinderConfiguration;
+import io.github.theforbiddenai.gamefinder.domain.Game;
+import io.github.theforbiddenai.gamefinder.utilities.http.OkHttpTransport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scrapes a batch of GOG pages that each take 50ms to respond, using either the commonPool default or virtual threads.
+ * The virtualThreads runs require Java 21 or newer
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WebScraperExecutorBenchmark {
+
+    private static final GameFinderConfiguration CONFIG = GameFinderConfiguration.getInstance();
+
+    private static final String URL = "https://www.gog.com/en/game/game";
+    private static final int PAGE_COUNT = 64;
+    private static final Duration LATENCY = Duration.ofMillis(50);
+
+    @Param({"commonPool", "virtualThreads"})
+    public String executor;
+
+    private GOGWebScraper gogWebScraper;
+
+    @Setup
+    public void setupScraper() {
+        CONFIG.useVirtualThreads(executor.equals("virtualThreads"));
+
+        byte[] html = BenchmarkHelper.readFixture("/scraper/gog_data/gog-game-page.html");
+        OkHttpTransport transport = new OkHttpTransport(BenchmarkHelper.createFixtureHttpClient(urlPath -> html, LATENCY));
+
+        this.gogWebScraper = new GOGWebScraper(transport, new ObjectMapper());
+    }
+
+    @TearDown
+    public void resetConfig() {
+        CONFIG.useVirtualThreads(false);
+    }
+
+    @Benchmark
+    public List<Game> scrapePages() {
+        List<CompletableFuture<Game>> futureGames = new ArrayList<>();
+
+        for (int i = 0; i < PAGE_COUNT; i++) {
+            futureGames.add(gogWebScraper.modifyGameAttributes(Game.builder().url(URL).build()));
+        }
+
+        return futureGames.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
+}
@@ -1,23 +1,46 @@
 package io.github.theforbiddenai.gamefinder;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
 import lombok.NonNull;
+import io.github.theforbiddenai.gamefinder.callback.CallbackDispatcher;
 import io.github.theforbiddenai.gamefinder.callback.GameRetrievalErrorCallback;
 import io.github.theforbiddenai.gamefinder.exception.GameRetrievalException;
 import io.github.theforbiddenai.gamefinder.scraper.GameScraper;
 import io.github.theforbiddenai.gamefinder.scraper.impl.GOGScraper;
 import io.github.theforbiddenai.gamefinder.callback.GameRetrievalCallback;
 import io.github.theforbiddenai.gamefinder.domain.Game;
+import io.github.theforbiddenai.gamefinder.domain.Platform;
+import io.github.theforbiddenai.gamefinder.domain.PlatformStatus;
+import io.github.theforbiddenai.gamefinder.domain.RetrievalKey;
+import io.github.theforbiddenai.gamefinder.domain.RetrievalResult;
 import io.github.theforbiddenai.gamefinder.domain.ScraperResult;
 import io.github.theforbiddenai.gamefinder.scraper.impl.EpicGamesScraper;
 import io.github.theforbiddenai.gamefinder.scraper.impl.SteamScraper;
-
+import io.github.theforbiddenai.gamefinder.utilities.cache.ResultCache;
+import io.github.theforbiddenai.gamefinder.utilities.concurrent.CircuitBreaker;
+import io.github.theforbiddenai.gamefinder.utilities.concurrent.RetrievalContext;
+import io.github.theforbiddenai.gamefinder.utilities.concurrent.SingleFlight;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 
 /**
  * Main class for GameFinder; contains the functions that are used to retrieve
@@ -32,6 +55,11 @@ public class GameFinder {
 
     private final List<GameScraper> gameScrapers;
 
+    // Concurrent retrievals of the same platform and configuration share one in-flight retrieval
+    private final SingleFlight<RetrievalKey, Collection<ScraperResult>> inFlightRetrievals = new SingleFlight<>();
+
+    private final ResultCache resultCache = new ResultCache();
+
     public GameFinder() {
         this.gameScrapers = new ArrayList<>();
 
@@ -47,41 +75,109 @@ public class GameFinder {
     /**
      * Retrieves games with a 100% discount from all the platforms listed
      * in {@link GameFinderConfiguration#getEnabledPlatforms()}. This function
-     * is synchronous. However, JSoup web scraping is done asynchronously in a
-     * non-blocking manner until all other games have been processed
+     * is synchronous. However, each platform is scraped concurrently, and a platform's
+     * web scraping starts as soon as that platform's results are retrieved
      *
      * @return A list of retrieved games
      * @throws GameRetrievalException If the games can not be retrieved for some reason
      */
     public List<Game> retrieveGames() throws GameRetrievalException {
-        List<ScraperResult> scraperResults = new ArrayList<>();
+        List<CompletableFuture<List<Game>>> platformFutureList = getPlatformFutureList(new RetrievalContext(null));
+
+        // No need to wait on an empty platformFutureList
+        if (platformFutureList.isEmpty()) return new ArrayList<>();
+
+        try {
+            // Wait for every platform to finish; this will block the thread
+            // join is used instead of get so that a GameRetrievalException thrown by a scraper is not unwrapped
+            CompletableFuture.allOf(platformFutureList.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException ex) {
+            // Rethrow the original exception if it came from a scraper
+            if (ex instanceof GameRetrievalException) throw ex;
+            throw new GameRetrievalException("Unable to retrieve games from all enabled platforms", ex.getCause());
+        }
+
+        // Merge the games from every platform into one list
+        List<Game> gameList = new ArrayList<>();
+        platformFutureList.forEach(platformFuture -> gameList.addAll(platformFuture.join()));
+
+        return gameList;
+    }
+
+    /**
+     * Retrieves games with a 100% discount from all the platforms listed
+     * in {@link GameFinderConfiguration#getEnabledPlatforms()}. This function
+     * is asynchronous. The returned handle completes once every platform has been retrieved, and can be used
+     * to cancel the retrieval. Cancelling it cancels every in-flight request and web scrape, and any
+     * page that has not been requested yet is skipped
+     *
+     * @return A handle to the retrieval
+     */
+    public RetrievalHandle retrieveGamesAsync() {
+        RetrievalContext context = new RetrievalContext(null);
+        List<CompletableFuture<List<Game>>> platformFutureList = getPlatformFutureList(context);
+
+        // Merge the games from every platform into one list once every platform is finished
+        CompletableFuture<List<Game>> gamesFuture = CompletableFuture.allOf(platformFutureList.toArray(new CompletableFuture[0]))
+                .thenApply(v -> {
+                    List<Game> gameList = new ArrayList<>();
+                    platformFutureList.forEach(platformFuture -> gameList.addAll(platformFuture.join()));
+                    return gameList;
+                });
+
+        return new RetrievalHandle(gamesFuture, context);
+    }
+
+    /**
+     * Retrieves games with a 100% discount from all the platforms listed
+     * in {@link GameFinderConfiguration#getEnabledPlatforms()}, waiting no longer than the deadline. This function
+     * is synchronous. Every request and web scrape is bound by the deadline, and whatever is still pending once the
+     * deadline is reached is cancelled. Unlike {@link #retrieveGames()}, a platform or game that fails does not
+     * cause the games that were retrieved to be discarded
+     *
+     * @param deadline The maximum amount of time to wait for games
+     * @return The games that were retrieved before the deadline, along with the status of each enabled platform
+     */
+    public RetrievalResult retrieveGames(@NonNull Duration deadline) {
+        RetrievalContext context = new RetrievalContext(Instant.now().plus(deadline));
+        Map<Platform, PlatformRetrieval> platformRetrievals = new EnumMap<>(Platform.class);
 
         for (GameScraper gameScraper : gameScrapers) {
             // Makes sure that the platform is enabled before retrieving games
             if (CONFIG.getEnabledPlatforms().contains(gameScraper.getPlatform())) {
-                scraperResults.addAll(gameScraper.retrieveResults());
+                CompletableFuture<Collection<ScraperResult>> resultsFuture = getResultsAsync(gameScraper, context);
+                platformRetrievals.put(gameScraper.getPlatform(), new PlatformRetrieval(resultsFuture));
             }
         }
 
-        List<Game> readyGameList = new ArrayList<>();
-        List<CompletableFuture<Game>> futureGameList = new ArrayList<>();
+        CompletableFuture<?>[] settledFutures = platformRetrievals.values().stream()
+                .map(PlatformRetrieval::getSettledFuture)
+                .toArray(CompletableFuture[]::new);
+
+        try {
+            // Wait for every platform to settle or for the deadline to pass; this will block the thread
+            CompletableFuture.allOf(settledFutures).get(context.getRemainingMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException ex) {
+            // Platforms that have not settled are reported by their status
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
 
-        // Sort ScraperResults into readyGameList and futureGameList list
-        sortScraperResults(scraperResults, readyGameList, futureGameList);
+        // Cancel every request that is still pending, so that it stops holding a socket and a thread
+        context.cancel();
 
-        // No need to attempt to process an empty futureGameList list
-        if (futureGameList.isEmpty()) return readyGameList;
+        List<Game> gameList = new ArrayList<>();
+        Map<Platform, PlatformStatus> platformStatuses = new EnumMap<>(Platform.class);
+        Map<Platform, Throwable> platformErrors = new EnumMap<>(Platform.class);
 
-        CompletableFuture<Void> allFutureGames = resolveFutureGames(readyGameList, futureGameList, null, null);
+        platformRetrievals.forEach((platform, platformRetrieval) -> {
+            platformStatuses.put(platform, platformRetrieval.collectGames(gameList));
 
-        try {
-            // Wait for futureGameList to resolve; this will block the thread
-            allFutureGames.get();
-        } catch (InterruptedException | ExecutionException e) {
-            throw new GameRetrievalException("Failed to collect steam games with web scraped expiration epochs", e);
-        }
+            Throwable error = platformRetrieval.getError();
+            if (error != null) platformErrors.put(platform, error);
+        });
 
-        return readyGameList;
+        return new RetrievalResult(gameList, platformStatuses, platformErrors);
     }
 
     /**
@@ -89,10 +185,24 @@ public class GameFinder {
      * in {@link GameFinderConfiguration#getEnabledPlatforms()}. This function
      * is asynchronous. As games are retrieved the callback function is called
      *
-     * @param callback      The function that is called once a batch of games is ready
-     * @param errorCallback The function that is called if an exception is thrown
+     * @param gameCallback      The function that is called once a batch of games is ready
+     * @param gameErrorCallback The function that is called if an exception is thrown
      */
-    public void retrieveGamesAsync(@NonNull GameRetrievalCallback callback, @NonNull GameRetrievalErrorCallback errorCallback) {
+    public void retrieveGamesAsync(@NonNull GameRetrievalCallback gameCallback, @NonNull GameRetrievalErrorCallback gameErrorCallback) {
+        // If a callback dispatcher is configured, the callbacks are handed off to it instead of being run on the scraping threads
+        CallbackDispatcher callbackDispatcher = CONFIG.getCallbackDispatcher();
+        // If the dispatcher rejects a callback (i.e. its queue is full and its overflow policy is FAIL), the error callback
+        // is run on the calling thread instead, since handing it off to the same full queue would lose the error
+        GameRetrievalCallback callback = callbackDispatcher == null
+                ? gameCallback
+                : games -> dispatchCallback(callbackDispatcher, () -> gameCallback.retrieveGame(games), gameErrorCallback::handleError);
+        GameRetrievalErrorCallback errorCallback = callbackDispatcher == null
+                ? gameErrorCallback
+                : throwable -> dispatchCallback(callbackDispatcher, () -> gameErrorCallback.handleError(throwable), ex -> {
+                    throwable.addSuppressed(ex);
+                    gameErrorCallback.handleError(throwable);
+                });
+
         CompletableFuture.runAsync(() -> {
 
             List<CompletableFuture<Collection<ScraperResult>>> scraperFutureList = new ArrayList<>();
@@ -134,6 +244,117 @@ public class GameFinder {
         });
     }
 
+    /**
+     * Hands off a callback to the callback dispatcher
+     *
+     * @param callbackDispatcher The callback dispatcher
+     * @param callback           The callback being handed off
+     * @param onRejected         Run on the calling thread if the dispatcher rejects the callback
+     */
+    private static void dispatchCallback(CallbackDispatcher callbackDispatcher, Runnable callback, Consumer<RejectedExecutionException> onRejected) {
+        try {
+            callbackDispatcher.execute(callback);
+        } catch (RejectedExecutionException ex) {
+            onRejected.accept(ex);
+        }
+    }
+
+    /**
+     * Creates a publisher that emits each game with a 100% discount from the platforms listed in
+     * {@link GameFinderConfiguration#getEnabledPlatforms()} as soon as it is retrieved, instead of waiting on the
+     * rest of its platform. Each subscription starts its own retrieval. Games are buffered until the subscriber
+     * requests them, and the subscriber is completed once every platform has finished. Cancelling the subscription
+     * cancels every in-flight request and web scrape
+     *
+     * @param errorCallback The function that is called if an exception is thrown. Errors are reported here instead
+     *                      of to the subscriber, so that one failing platform or game does not end the stream
+     * @return A publisher of retrieved games
+     */
+    public Flow.Publisher<Game> publish(@NonNull GameRetrievalErrorCallback errorCallback) {
+        return subscriber -> {
+            RetrievalContext context = new RetrievalContext(null);
+            GameSubscription subscription = new GameSubscription(subscriber, context);
+            subscriber.onSubscribe(subscription);
+
+            for (GameScraper gameScraper : gameScrapers) {
+                // Makes sure that the platform is enabled before retrieving games
+                if (!CONFIG.getEnabledPlatforms().contains(gameScraper.getPlatform())) continue;
+
+                subscription.addPendingTask();
+                getResultsAsync(gameScraper, context)
+                        .whenComplete((scraperResultList, throwable) -> {
+                            if (throwable != null) {
+                                handlePublishError(throwable, subscription, errorCallback);
+                            } else {
+                                scraperResultList.forEach(scraperResult -> publishResult(scraperResult, subscription, errorCallback));
+                            }
+                            subscription.finishPendingTask();
+                        });
+            }
+
+            // Every platform has been started, so the subscriber can be completed once they finish
+            subscription.finishPendingTask();
+        };
+    }
+
+    /**
+     * Writes the cached results of every platform to a snapshot file, so that they can be loaded with
+     * {@link #loadSnapshot(Path)} after a restart. Only complete results are cached (see {@link GameFinderConfiguration#getResultCacheTtl()})
+     *
+     * @param file The file the snapshot is written to
+     * @throws IOException If the snapshot can not be written
+     */
+    public void saveSnapshot(@NonNull Path file) throws IOException {
+        resultCache.saveSnapshot(file);
+    }
+
+    /**
+     * Loads a snapshot written by {@link #saveSnapshot(Path)} into the result cache. The next retrieval of each loaded
+     * platform is answered from the snapshot immediately, while the platform's results are refreshed in the background.
+     * The result cache must be enabled (see {@link GameFinderConfiguration#getResultCacheTtl()})
+     *
+     * @param file The file the snapshot is read from
+     * @return The number of platform results that were loaded
+     * @throws IOException If the snapshot can not be read
+     */
+    public int loadSnapshot(@NonNull Path file) throws IOException {
+        return resultCache.loadSnapshot(file);
+    }
+
+    /**
+     * Emits a ScraperResult's game to a subscription. A future game is emitted as soon as it completes
+     *
+     * @param scraperResult The ScraperResult being published
+     * @param subscription  The subscription the game is emitted to
+     * @param errorCallback The function that is called if the future game completes exceptionally
+     */
+    private void publishResult(ScraperResult scraperResult, GameSubscription subscription, GameRetrievalErrorCallback errorCallback) {
+        if (scraperResult.getGame() != null) subscription.emit(scraperResult.getGame());
+
+        CompletableFuture<Game> futureGame = scraperResult.getFutureGame();
+        if (futureGame == null) return;
+
+        subscription.addPendingTask();
+        futureGame.whenComplete((game, throwable) -> {
+            if (throwable != null) handlePublishError(throwable, subscription, errorCallback);
+            else if (game != null) subscription.emit(game);
+
+            subscription.finishPendingTask();
+        });
+    }
+
+    /**
+     * Sends an error to the errorCallback, unless the subscription was cancelled. Cancelling a subscription makes
+     * its pending requests fail, and those failures are expected
+     *
+     * @param throwable     The error
+     * @param subscription  The subscription the error belongs to
+     * @param errorCallback The function that is called with the error
+     */
+    private void handlePublishError(Throwable throwable, GameSubscription subscription, GameRetrievalErrorCallback errorCallback) {
+        if (!subscription.isCancelled()) errorCallback.handleError(throwable);
+    }
+
     /**
      * Sends a list of ready games to the callback
      *
@@ -178,9 +399,9 @@ public class GameFinder {
      *
      * @param resultsList     The list the resolved futureGamesList are added to
      * @param futureGamesList The list of unresolved games
-     * @param callback        The function that is called once a batch of games is ready
-     * @param errorCallback   The function that is called if an exception is thrown
-     * @return A CompletableFuture compiled of all futureGame futures
+     * @param callback        The function that is called once a batch of games is ready (nullable)
+     * @param errorCallback   The function that is called if an exception is thrown (nullable)
+     * @return A CompletableFuture that completes once all resolved games have been added to the resultsList
      */
     private CompletableFuture<Void> resolveFutureGames(
             @NonNull List<Game> resultsList,
@@ -193,26 +414,116 @@ public class GameFinder {
         if (size == 0) return CompletableFuture.completedFuture(null);
 
         // Compile all futureGamesList into one future
+        // Once every future game is completed, add all games in futureGamesList to games list
         CompletableFuture<Void> allFutureGames = CompletableFuture.allOf(futureGamesList.toArray(new CompletableFuture[size]))
-                .exceptionally(throwable -> {
-                    errorCallback.handleError(throwable);
-                    return null;
+                .thenRun(() -> {
+                    // Join the completed futures to get their game objects and add them to resultsList
+                    futureGamesList.stream()
+                            .map(CompletableFuture::join)
+                            .filter(Objects::nonNull)
+                            .forEach(resultsList::add);
+
+                    if (callback != null && !resultsList.isEmpty()) {
+                        callback.retrieveGame(resultsList);
+                    }
                 });
 
-        // Once allFutureGames is completed, add all games in futureGamesList to games list
-        allFutureGames.thenAccept(v -> {
-            // Join the completed futures to get their game objects and add them to resultsList
-            futureGamesList.stream()
-                    .map(CompletableFuture::join)
-                    .filter(Objects::nonNull)
-                    .forEach(resultsList::add);
+        // Without an errorCallback, the exception is left for the caller to handle
+        if (errorCallback == null) return allFutureGames;
 
-            if (callback != null && !resultsList.isEmpty()) {
-                callback.retrieveGame(resultsList);
-            }
+        return allFutureGames.exceptionally(throwable -> {
+            errorCallback.handleError(throwable);
+            return null;
         });
+    }
+
+    /**
+     * Retrieves the results from a scraper on its platform's executor. Cached results are used if there are any (see
+     * {@link GameFinderConfiguration#getResultCacheTtl()}), and if a retrieval of the same platform with the
+     * same configuration is already in flight, its results are shared instead of starting a duplicate retrieval
+     *
+     * @param gameScraper The scraper the results are being retrieved from
+     * @param context     The caller's context. The shared retrieval is only cancelled once every caller sharing it has cancelled
+     * @return A CompletableFuture containing the retrieved results
+     */
+    private CompletableFuture<Collection<ScraperResult>> getResultsAsync(GameScraper gameScraper, RetrievalContext context) {
+        Platform platform = gameScraper.getPlatform();
+
+        RetrievalKey key = RetrievalKey.of(platform);
+
+        // The scraper runs with the retrieval's context bound, so that its requests and web scrapes are registered with it
+        return resultCache.get(key, context, cacheContext -> inFlightRetrievals.execute(key, cacheContext, retrievalContext ->
+                CONFIG.getPlatformExecutor(platform).supplyAsync(retrievalContext.wrap(() -> retrieveResults(gameScraper)))));
+    }
+
+    /**
+     * Retrieves the results from a scraper through its platform's circuit breaker. If the breaker is open, this fails
+     * fast instead of waiting on a platform that keeps failing
+     *
+     * @param gameScraper The scraper the results are being retrieved from
+     * @return The retrieved results
+     * @throws GameRetrievalException If the circuit breaker is open or the scraper fails
+     */
+    private Collection<ScraperResult> retrieveResults(GameScraper gameScraper) throws GameRetrievalException {
+        CircuitBreaker circuitBreaker = CONFIG.getCircuitBreaker(gameScraper.getPlatform());
+
+        if (!circuitBreaker.tryAcquire()) {
+            throw new GameRetrievalException("The circuit breaker for " + gameScraper.getPlatform() + " is open");
+        }
+
+        try {
+            Collection<ScraperResult> scraperResults = gameScraper.retrieveResults();
+            circuitBreaker.recordSuccess();
+            return scraperResults;
+        } catch (RuntimeException ex) {
+            // A retrieval cancelled by its deadline says nothing about the health of the platform
+            RetrievalContext context = RetrievalContext.current();
+            if (context != null && context.isCancelled()) circuitBreaker.recordAbandoned();
+            else circuitBreaker.recordFailure();
+
+            throw ex;
+        }
+    }
+
+    /**
+     * Starts retrieving the games of every enabled platform
+     *
+     * @param context The context every platform's requests and web scrapes are registered with
+     * @return A CompletableFuture for each enabled platform, containing every game from that platform
+     */
+    private List<CompletableFuture<List<Game>>> getPlatformFutureList(RetrievalContext context) {
+        List<CompletableFuture<List<Game>>> platformFutureList = new ArrayList<>();
 
-        return allFutureGames;
+        for (GameScraper gameScraper : gameScrapers) {
+            // Makes sure that the platform is enabled before retrieving games
+            if (CONFIG.getEnabledPlatforms().contains(gameScraper.getPlatform())) {
+                platformFutureList.add(getPlatformGamesAsync(gameScraper, context));
+            }
+        }
+
+        return platformFutureList;
+    }
+
+    /**
+     * Retrieves the games from a scraper and resolves all of its future games. This is done without waiting on any other platform
+     *
+     * @param gameScraper The scraper the games are being retrieved from
+     * @param context     The context the scraper's requests and web scrapes are registered with
+     * @return A CompletableFuture containing every game from the scraper's platform
+     */
+    private CompletableFuture<List<Game>> getPlatformGamesAsync(GameScraper gameScraper, RetrievalContext context) {
+        return getResultsAsync(gameScraper, context)
+                .thenCompose(scraperResultList -> {
+                    List<Game> gameList = new ArrayList<>();
+                    List<CompletableFuture<Game>> futureGameList = new ArrayList<>();
+
+                    // Sort ScraperResults into gameList and futureGameList
+                    sortScraperResults(scraperResultList, gameList, futureGameList);
+
+                    // Once futureGameList is resolved, gameList contains every game from this platform
+                    return resolveFutureGames(gameList, futureGameList, null, null)
+                            .thenApply(v -> gameList);
+                });
     }
 
     /**
@@ -223,11 +534,81 @@ public class GameFinder {
      * @return A CompletableFuture containing the retrieve results
      */
     private CompletableFuture<Collection<ScraperResult>> getGamesFromScraperAsync(GameScraper gameScraper, GameRetrievalErrorCallback errorCallback) {
-        return CompletableFuture.supplyAsync(gameScraper::retrieveResults, CONFIG.getExecutorService())
+        return getResultsAsync(gameScraper, new RetrievalContext(null))
                 .exceptionally(throwable -> {
                     errorCallback.handleError(throwable);
                     return null;
                 });
     }
 
+    /**
+     * Tracks a single platform's retrieval for {@link #retrieveGames(Duration)}
+     */
+    private static class PlatformRetrieval {
+
+        private final CompletableFuture<Collection<ScraperResult>> resultsFuture;
+
+        // Completes once the results and every one of their future games have completed, whether successfully or not
+        @Getter
+        private final CompletableFuture<Void> settledFuture;
+
+        private PlatformRetrieval(CompletableFuture<Collection<ScraperResult>> resultsFuture) {
+            this.resultsFuture = resultsFuture;
+            this.settledFuture = resultsFuture
+                    .thenCompose(scraperResultList -> CompletableFuture.allOf(scraperResultList.stream()
+                            .map(ScraperResult::getFutureGame)
+                            .filter(Objects::nonNull)
+                            .toArray(CompletableFuture[]::new)))
+                    .handle((v, throwable) -> null);
+        }
+
+        /**
+         * Adds every game that has been completely retrieved to a list
+         *
+         * @param gameList The list the games are added to
+         * @return The status of the platform
+         */
+        private PlatformStatus collectGames(List<Game> gameList) {
+            if (!resultsFuture.isDone()) return PlatformStatus.TIMED_OUT;
+            if (resultsFuture.isCompletedExceptionally()) return PlatformStatus.FAILED;
+
+            boolean complete = true;
+
+            for (ScraperResult scraperResult : resultsFuture.join()) {
+                if (scraperResult.getGame() != null) gameList.add(scraperResult.getGame());
+
+                CompletableFuture<Game> futureGame = scraperResult.getFutureGame();
+                if (futureGame == null) continue;
+
+                // A game that failed or is still being web scraped is incomplete, so it is left out
+                if (!futureGame.isDone() || futureGame.isCompletedExceptionally()) {
+                    complete = false;
+                    continue;
+                }
+
+                Game game = futureGame.join();
+                if (game != null) gameList.add(game);
+            }
+
+            return complete ? PlatformStatus.COMPLETE : PlatformStatus.PARTIAL;
+        }
+
+        /**
+         * @return The exception that caused the platform's listings to not be retrieved, or null if there is none
+         */
+        private Throwable getError() {
+            if (!resultsFuture.isCompletedExceptionally()) return null;
+
+            try {
+                resultsFuture.join();
+                return null;
+            } catch (GameRetrievalException ex) {
+                return ex;
+            } catch (CompletionException | CancellationException ex) {
+                return ex.getCause() == null ? ex : ex.getCause();
+            }
+        }
+
+    }
+
 }
@@ -5,14 +5,27 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import io.github.theforbiddenai.gamefinder.callback.CallbackDispatcher;
+import io.github.theforbiddenai.gamefinder.callback.HttpMetricsCallback;
 import io.github.theforbiddenai.gamefinder.domain.Platform;
 import io.github.theforbiddenai.gamefinder.exception.LocaleException;
+import io.github.theforbiddenai.gamefinder.utilities.concurrent.Bulkhead;
+import io.github.theforbiddenai.gamefinder.utilities.concurrent.CircuitBreaker;
+import io.github.theforbiddenai.gamefinder.utilities.concurrent.VirtualThreads;
+import io.github.theforbiddenai.gamefinder.utilities.http.HttpTransport;
+import io.github.theforbiddenai.gamefinder.utilities.http.OkHttpTransport;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
 
 /**
@@ -37,12 +50,107 @@ public class GameFinderConfiguration {
     @Accessors(fluent = true)
     private boolean useGOGLocaleCookie = false;
 
+    // Whether web scraping uses asynchronous HTTP callbacks instead of blocking executorService threads
+    @Accessors(fluent = true)
+    private boolean useAsyncWebScraping = false;
+
     // By default, English will return if a game developer has not translated their description
     private Locale locale = Locale.US;
 
     // Controls what executorService is used to execute the CompletableFutures
     private ExecutorService executorService = ForkJoinPool.commonPool();
 
+    // Whether blocking I/O is run on virtual threads instead of executorService. Requires Java 21 or newer
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean useVirtualThreads = false;
+
+    // Runs blocking I/O when useVirtualThreads is enabled. This is lazily created by getIOExecutorService
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private ExecutorService virtualThreadExecutorService;
+
+    // Controls what executorService parses web scraped pages when useAsyncWebScraping or useVirtualThreads is enabled.
+    // This is lazily created by getParsingExecutorService
+    private ExecutorService parsingExecutorService;
+
+    // Caps how many tasks of a single platform run at once, so that one slow platform can not monopolize the executor.
+    // Platforms without an entry use defaultPlatformConcurrency
+    private Map<Platform, Integer> platformConcurrencyLimits = new ConcurrentHashMap<>();
+
+    private int defaultPlatformConcurrency = 8;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final Map<Platform, Bulkhead> platformBulkheads = createPlatformBulkheads();
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final Map<Platform, CircuitBreaker> platformCircuitBreakers = createPlatformCircuitBreakers();
+
+    // Controls how many pages/sections of a single platform's API are requested at once
+    private int maxConcurrentPageRequests = 4;
+
+    // Controls how many ids are sent in a single Steam /IStoreBrowseService/GetItems/v1 request
+    private int steamItemsChunkSize = 50;
+
+    // Controls what transport is used to send every HTTP request. This is lazily created by getHttpTransport
+    private HttpTransport httpTransport;
+
+    // The connect/read/write timeout used for hosts that do not have an entry in hostTimeouts
+    private Duration httpTimeout = Duration.ofSeconds(10);
+
+    // Host specific timeouts (i.e. www.gog.com -> 20 seconds)
+    private Map<String, Duration> hostTimeouts = new ConcurrentHashMap<>();
+
+    // The directory HTTP responses are cached in. Null disables the HTTP cache. This is read when the default transport is created
+    private Path httpCacheDirectory;
+
+    // The maximum number of bytes the HTTP cache stores on disk
+    private long httpCacheMaxSize = 50L * 1024 * 1024;
+
+    // The number of requests per second allowed to a single host, for hosts that do not have an entry in hostRateLimits.
+    // A rate of 0 or less disables rate limiting
+    private double httpRateLimit = 10;
+
+    // Host specific rate limits in requests per second (i.e. store.steampowered.com -> 5)
+    private Map<String, Double> hostRateLimits = new ConcurrentHashMap<>();
+
+    // How many times a request that fails with an IOException or a transient status code is retried
+    private int maxRetries = 2;
+
+    // The delay before a retry is a random duration between 0 and min(retryMaxDelay, retryBaseDelay * 2^attempt)
+    private Duration retryBaseDelay = Duration.ofMillis(250);
+    private Duration retryMaxDelay = Duration.ofSeconds(5);
+
+    // How many consecutive failed retrievals open a platform's circuit breaker. A threshold of 0 or less disables the breakers
+    private int circuitBreakerFailureThreshold = 3;
+
+    // How long an open circuit breaker fails fast before it lets a trial retrieval through
+    private Duration circuitBreakerOpenDuration = Duration.ofMinutes(1);
+
+    // How long a platform's retrieved results are reused before they are retrieved again. A TTL of 0 disables the result cache
+    private Duration resultCacheTtl = Duration.ZERO;
+
+    // How long past its TTL a cached result is still served while it is refreshed in the background
+    private Duration resultCacheMaxStaleness = Duration.ofMinutes(5);
+
+    // How long the data web scraped from a page is reused. The data is never reused past the end of the discount it was
+    // scraped for. A TTL of 0 disables the web scrape cache
+    private Duration webScrapeCacheTtl = Duration.ZERO;
+
+    // How long a failed web scrape is reused before the page is requested again
+    private Duration webScrapeCacheFailureTtl = Duration.ofSeconds(30);
+
+    // The maximum number of pages cached by each web scraper. Once full, the least recently used page is evicted
+    private int webScrapeCacheMaxEntries = 1000;
+
+    // Runs the callbacks passed to retrieveGamesAsync. Null means callbacks are run on the thread that retrieved the games
+    private CallbackDispatcher callbackDispatcher;
+
+    // Called with the byte/latency accounting of every HTTP request. Null means no accounting is reported
+    private HttpMetricsCallback httpMetricsCallback;
+
     @Getter(AccessLevel.PRIVATE)
     private final List<Locale> validLocales = Arrays.stream(Locale.getAvailableLocales())
             .filter(availableLocale -> {
@@ -58,6 +166,118 @@ public class GameFinderConfiguration {
         return instance;
     }
 
+    /**
+     * @return The transport used to send every HTTP request. If one has not been set, a shared {@link OkHttpTransport} is created
+     */
+    public synchronized HttpTransport getHttpTransport() {
+        if (httpTransport == null) httpTransport = new OkHttpTransport();
+        return httpTransport;
+    }
+
+    public synchronized void setHttpTransport(HttpTransport httpTransport) {
+        this.httpTransport = httpTransport;
+    }
+
+    public synchronized boolean useVirtualThreads() {
+        return useVirtualThreads;
+    }
+
+    /**
+     * @throws UnsupportedOperationException If virtual threads are being enabled and the running JVM does not support them
+     */
+    public synchronized GameFinderConfiguration useVirtualThreads(boolean useVirtualThreads) {
+        if (useVirtualThreads && !VirtualThreads.isSupported()) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or newer");
+        }
+        this.useVirtualThreads = useVirtualThreads;
+        return this;
+    }
+
+    /**
+     * @return The executor service that blocking I/O (API requests and web scraping) is run on. This is a virtual
+     *         thread per task executor if useVirtualThreads is enabled, otherwise it is the executorService
+     */
+    public synchronized ExecutorService getIOExecutorService() {
+        if (!useVirtualThreads) return executorService;
+
+        if (virtualThreadExecutorService == null) virtualThreadExecutorService = VirtualThreads.newVirtualThreadPerTaskExecutor();
+        return virtualThreadExecutorService;
+    }
+
+    /**
+     * Gets the executor that a platform's I/O is run on. At most the platform's concurrency limit (see
+     * platformConcurrencyLimits) of its tasks run on {@link #getIOExecutorService()} at once; the rest are queued
+     *
+     * @param platform The platform the tasks belong to. Tasks without a platform share the UNDEFINED bulkhead
+     * @return The platform's bulkhead executor
+     */
+    public Bulkhead getPlatformExecutor(Platform platform) {
+        return platformBulkheads.get(platform == null ? Platform.UNDEFINED : platform);
+    }
+
+    /**
+     * @return A bulkhead for every platform. The limits and the underlying executor are read each time a task is
+     *         submitted, so changes to the configuration apply immediately
+     */
+    private Map<Platform, Bulkhead> createPlatformBulkheads() {
+        Map<Platform, Bulkhead> bulkheads = new EnumMap<>(Platform.class);
+
+        for (Platform platform : Platform.values()) {
+            bulkheads.put(platform, new Bulkhead(
+                    this::getIOExecutorService,
+                    () -> platformConcurrencyLimits.getOrDefault(platform, defaultPlatformConcurrency)
+            ));
+        }
+
+        return bulkheads;
+    }
+
+    /**
+     * Gets the circuit breaker that guards a platform's retrievals
+     *
+     * @param platform The platform being retrieved. Retrievals without a platform share the UNDEFINED breaker
+     * @return The platform's circuit breaker
+     */
+    public CircuitBreaker getCircuitBreaker(Platform platform) {
+        return platformCircuitBreakers.get(platform == null ? Platform.UNDEFINED : platform);
+    }
+
+    /**
+     * @return A circuit breaker for every platform. The threshold and open duration are read each time they are needed,
+     *         so changes to the configuration apply immediately
+     */
+    private Map<Platform, CircuitBreaker> createPlatformCircuitBreakers() {
+        Map<Platform, CircuitBreaker> circuitBreakers = new EnumMap<>(Platform.class);
+
+        for (Platform platform : Platform.values()) {
+            circuitBreakers.put(platform, new CircuitBreaker(
+                    () -> circuitBreakerFailureThreshold,
+                    () -> circuitBreakerOpenDuration
+            ));
+        }
+
+        return circuitBreakers;
+    }
+
+    /**
+     * @return The executor service used to parse web scraped pages when useAsyncWebScraping or useVirtualThreads is enabled. If one has not
+     *         been set, a fixed pool of daemon threads (one per available processor) is created
+     */
+    public synchronized ExecutorService getParsingExecutorService() {
+        if (parsingExecutorService == null) {
+            parsingExecutorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+                Thread thread = new Thread(runnable, "GameFinder-Parser");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return parsingExecutorService;
+    }
+
+    public synchronized void setParsingExecutorService(ExecutorService parsingExecutorService) {
+        this.parsingExecutorService = parsingExecutorService;
+    }
+
     /**
      * @throws LocaleException If the provided locale does not have both a language code and a country code
      */
@@ -0,0 +1,151 @@
+package io.github.theforbiddenai.gamefinder;
+
+import io.github.theforbiddenai.gamefinder.domain.Game;
+import io.github.theforbiddenai.gamefinder.utilities.concurrent.RetrievalContext;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The subscription handed out by {@link GameFinder#publish(io.github.theforbiddenai.gamefinder.callback.GameRetrievalErrorCallback)}.
+ * Games are buffered as they are retrieved and are only sent to the subscriber once it has requested them. The
+ * subscriber is completed once every pending task (platform retrieval or web scrape) has finished and the buffer is empty
+ *
+ * @author TheForbiddenAi
+ */
+class GameSubscription implements Flow.Subscription {
+
+    private final Flow.Subscriber<? super Game> subscriber;
+    private final RetrievalContext context;
+
+    private final Queue<Game> bufferedGames = new ConcurrentLinkedQueue<>();
+    private final AtomicLong demand = new AtomicLong();
+
+    // Starts at 1 so that the subscriber is not completed before the retrieval has finished starting
+    private final AtomicInteger pendingTasks = new AtomicInteger(1);
+
+    // Ensures that only one thread signals the subscriber at a time
+    private final AtomicInteger drainCount = new AtomicInteger();
+
+    private volatile boolean cancelled;
+
+    // The error the subscriber is signalled with by the next drain. It is not signalled directly, since another thread may be draining
+    private volatile Throwable pendingError;
+
+    GameSubscription(Flow.Subscriber<? super Game> subscriber, RetrievalContext context) {
+        this.subscriber = subscriber;
+        this.context = context;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            if (cancelled) return;
+
+            // The retrieval is stopped now, but the error is signalled by drain, so that it can not overlap an onNext signal
+            pendingError = new IllegalArgumentException("The number of requested games must be positive");
+            context.cancel();
+            drain();
+            return;
+        }
+
+        // Demand is capped at Long.MAX_VALUE, which is treated as unbounded
+        demand.accumulateAndGet(n, (current, requested) -> {
+            long total = current + requested;
+            return total < 0 ? Long.MAX_VALUE : total;
+        });
+        drain();
+    }
+
+    /**
+     * Cancels the subscription, along with every request and web scrape that is still pending
+     */
+    @Override
+    public void cancel() {
+        cancelled = true;
+        context.cancel();
+        bufferedGames.clear();
+    }
+
+    /**
+     * @return Whether the subscription was cancelled (or completed)
+     */
+    boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Buffers a game and sends it to the subscriber if it has demand
+     *
+     * @param game The retrieved game
+     */
+    void emit(Game game) {
+        if (cancelled || pendingError != null) return;
+
+        bufferedGames.add(game);
+        drain();
+    }
+
+    /**
+     * Registers a task that may emit games. The subscriber is not completed until the task is finished
+     */
+    void addPendingTask() {
+        pendingTasks.incrementAndGet();
+    }
+
+    /**
+     * Marks a task registered with {@link #addPendingTask()} (or the retrieval starting) as finished
+     */
+    void finishPendingTask() {
+        if (pendingTasks.decrementAndGet() == 0) drain();
+    }
+
+    /**
+     * Sends as many buffered games as the subscriber has requested, then completes the subscriber if every task has
+     * finished, or fails it if an error is pending. Whichever thread is draining also handles the work of any thread
+     * that called this concurrently, so the subscriber is only ever signalled by one thread at a time
+     */
+    private void drain() {
+        if (drainCount.getAndIncrement() != 0) return;
+
+        int missed = 1;
+        do {
+            long requested = demand.get();
+            long emitted = 0;
+
+            while (emitted != requested && !cancelled && pendingError == null) {
+                Game game = bufferedGames.poll();
+                if (game == null) break;
+
+                subscriber.onNext(game);
+                emitted++;
+            }
+
+            if (cancelled) return;
+
+            Throwable error = pendingError;
+            if (error != null) {
+                cancelled = true;
+                bufferedGames.clear();
+                subscriber.onError(error);
+                return;
+            }
+
+            if (pendingTasks.get() == 0 && bufferedGames.isEmpty()) {
+                cancelled = true;
+                subscriber.onComplete();
+                return;
+            }
+
+            if (emitted != 0 && requested != Long.MAX_VALUE) demand.addAndGet(-emitted);
+            missed = drainCount.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+}
@@ -0,0 +1,51 @@
+package io.github.theforbiddenai.gamefinder;
+
+import io.github.theforbiddenai.gamefinder.domain.Game;
+import io.github.theforbiddenai.gamefinder.utilities.concurrent.RetrievalContext;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A handle to a retrieval started by {@link GameFinder#retrieveGamesAsync()}. It can be used to compose on the
+ * retrieval's completion, or to cancel it once the games are no longer needed
+ *
+ * @author TheForbiddenAi
+ */
+public class RetrievalHandle {
+
+    // Completes with every retrieved game once every platform is finished
+    @Getter
+    private final CompletableFuture<List<Game>> future;
+
+    private final RetrievalContext context;
+
+    RetrievalHandle(CompletableFuture<List<Game>> future, RetrievalContext context) {
+        this.future = future;
+        this.context = context;
+
+        // Cancelling the future directly is treated the same as calling cancel
+        future.whenComplete((gameList, throwable) -> {
+            if (throwable instanceof CancellationException) context.cancel();
+        });
+    }
+
+    /**
+     * Cancels the retrieval. Every in-flight request and web scrape is cancelled, releasing its socket and thread,
+     * and the future completes with a {@link CancellationException}
+     */
+    public void cancel() {
+        future.cancel(false);
+        context.cancel();
+    }
+
+    /**
+     * @return Whether the retrieval was cancelled
+     */
+    public boolean isCancelled() {
+        return context.isCancelled();
+    }
+
+}
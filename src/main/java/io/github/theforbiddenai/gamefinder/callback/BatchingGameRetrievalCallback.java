@@ -0,0 +1,138 @@
+package io.github.theforbiddenai.gamefinder.callback;
+
+import io.github.theforbiddenai.gamefinder.domain.Game;
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A GameRetrievalCallback that coalesces the games it receives (regardless of platform) into batches before passing
+ * them on to another callback. A batch is sent once it reaches the maximum batch size, or once the maximum linger time
+ * has passed since its first game was received, whichever happens first. Batches are sent to the delegate one at a time
+ *
+ * @author TheForbiddenAi
+ */
+public class BatchingGameRetrievalCallback implements GameRetrievalCallback {
+
+    private final GameRetrievalCallback delegate;
+    private final int maxBatchSize;
+    private final Executor lingerExecutor;
+
+    // Ensures that the delegate only receives one batch at a time
+    private final Object deliveryLock = new Object();
+
+    private List<Game> batch = new ArrayList<>();
+    // Identifies the current batch, so that a linger flush does not send a newer batch early
+    private long batchId;
+    private long lingerScheduledBatchId = -1;
+
+    /**
+     * @param delegate     The callback the batches are sent to
+     * @param maxBatchSize The maximum number of games in a batch
+     * @param maxLinger    The maximum amount of time a game waits for its batch to fill up before the batch is sent
+     * @throws IllegalArgumentException If maxBatchSize is less than 1 or maxLinger is negative
+     */
+    public BatchingGameRetrievalCallback(@NonNull GameRetrievalCallback delegate, int maxBatchSize, @NonNull Duration maxLinger) {
+        if (maxBatchSize < 1) throw new IllegalArgumentException("maxBatchSize must be at least 1");
+        if (maxLinger.isNegative()) throw new IllegalArgumentException("maxLinger can not be negative");
+
+        this.delegate = delegate;
+        this.maxBatchSize = maxBatchSize;
+        this.lingerExecutor = CompletableFuture.delayedExecutor(maxLinger.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Adds games to the current batch. Any batch that is filled is sent to the delegate on the calling thread
+     *
+     * @param games The retrieved games
+     */
+    @Override
+    public void retrieveGame(Collection<Game> games) {
+        List<List<Game>> fullBatches = new ArrayList<>();
+        long lingerBatchId = -1;
+
+        synchronized (this) {
+            for (Game game : games) {
+                batch.add(game);
+
+                if (batch.size() >= maxBatchSize) {
+                    fullBatches.add(batch);
+                    batch = new ArrayList<>();
+                    batchId++;
+                }
+            }
+
+            // The linger time starts once the first game is added to a batch
+            if (!batch.isEmpty() && lingerScheduledBatchId != batchId) {
+                lingerScheduledBatchId = batchId;
+                lingerBatchId = batchId;
+            }
+        }
+
+        fullBatches.forEach(this::deliver);
+
+        if (lingerBatchId != -1) {
+            long scheduledBatchId = lingerBatchId;
+            lingerExecutor.execute(() -> flush(scheduledBatchId));
+        }
+    }
+
+    /**
+     * Sends the current batch to the delegate without waiting for it to fill up or for the linger time to pass
+     */
+    public void flush() {
+        List<Game> flushedBatch;
+
+        synchronized (this) {
+            flushedBatch = takeBatch();
+        }
+
+        if (!flushedBatch.isEmpty()) deliver(flushedBatch);
+    }
+
+    /**
+     * Sends a batch to the delegate once its linger time has passed, unless it has already been sent
+     *
+     * @param lingerBatchId The id of the batch the linger time was started for
+     */
+    private void flush(long lingerBatchId) {
+        List<Game> flushedBatch;
+
+        synchronized (this) {
+            if (batchId != lingerBatchId) return;
+            flushedBatch = takeBatch();
+        }
+
+        if (!flushedBatch.isEmpty()) deliver(flushedBatch);
+    }
+
+    /**
+     * Removes the current batch, starting a new one. This must be called while holding this object's lock
+     *
+     * @return The removed batch
+     */
+    private List<Game> takeBatch() {
+        List<Game> takenBatch = batch;
+        batch = new ArrayList<>();
+        batchId++;
+        return takenBatch;
+    }
+
+    /**
+     * Sends a batch to the delegate
+     *
+     * @param games The batch being sent
+     */
+    private void deliver(List<Game> games) {
+        synchronized (deliveryLock) {
+            delegate.retrieveGame(games);
+        }
+    }
+
+}
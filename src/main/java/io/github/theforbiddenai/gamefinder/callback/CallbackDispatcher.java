@@ -0,0 +1,111 @@
+package io.github.theforbiddenai.gamefinder.callback;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Runs callbacks on a dedicated daemon thread, so that a slow callback does not hold up the threads used for scraping.
+ * Callbacks are handed off through a bounded queue and run one at a time, in the order they were handed off. What
+ * happens when the queue is full is decided by the {@link CallbackOverflowPolicy}
+ *
+ * @author TheForbiddenAi
+ */
+public class CallbackDispatcher implements Executor {
+
+    private final BlockingQueue<Runnable> queuedCallbacks;
+
+    @Getter
+    private final CallbackOverflowPolicy overflowPolicy;
+
+    private Thread dispatchThread;
+
+    /**
+     * @param capacity       The maximum number of callbacks waiting to be run
+     * @param overflowPolicy What happens when a callback is handed off while the queue is full
+     * @throws IllegalArgumentException If capacity is less than 1
+     */
+    public CallbackDispatcher(int capacity, @NonNull CallbackOverflowPolicy overflowPolicy) {
+        this.queuedCallbacks = new ArrayBlockingQueue<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Hands off a callback to the dispatch thread
+     *
+     * @param callback The callback being run
+     * @throws RejectedExecutionException If the queue is full and the overflow policy is FAIL, or if the calling
+     *                                    thread is interrupted while waiting for room in the queue
+     */
+    @Override
+    public void execute(@NonNull Runnable callback) {
+        startDispatchThread();
+
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    queuedCallbacks.put(callback);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new RejectedExecutionException("Interrupted while waiting for room in the callback queue", ex);
+                }
+            }
+            case DROP_OLDEST -> {
+                // Another thread may fill the freed slot first, so this repeats until the callback fits
+                while (!queuedCallbacks.offer(callback)) {
+                    queuedCallbacks.poll();
+                }
+            }
+            case FAIL -> {
+                if (!queuedCallbacks.offer(callback)) {
+                    throw new RejectedExecutionException("The callback queue is full");
+                }
+            }
+        }
+    }
+
+    /**
+     * @return The number of callbacks waiting to be run
+     */
+    public int getQueuedCount() {
+        return queuedCallbacks.size();
+    }
+
+    /**
+     * Starts the dispatch thread if it has not been started yet
+     */
+    private synchronized void startDispatchThread() {
+        if (dispatchThread != null) return;
+
+        dispatchThread = new Thread(this::runCallbacks, "GameFinder-Callback");
+        dispatchThread.setDaemon(true);
+        dispatchThread.start();
+    }
+
+    /**
+     * Runs queued callbacks until the dispatch thread is interrupted
+     */
+    private void runCallbacks() {
+        while (!Thread.currentThread().isInterrupted()) {
+            Runnable callback;
+            try {
+                callback = queuedCallbacks.take();
+            } catch (InterruptedException ex) {
+                return;
+            }
+
+            try {
+                callback.run();
+            } catch (RuntimeException ex) {
+                // A callback that throws should not stop the callbacks queued behind it
+                Thread currentThread = Thread.currentThread();
+                currentThread.getUncaughtExceptionHandler().uncaughtException(currentThread, ex);
+            }
+        }
+    }
+
+}
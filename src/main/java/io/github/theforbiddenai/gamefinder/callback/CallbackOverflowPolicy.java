@@ -0,0 +1,17 @@
+package io.github.theforbiddenai.gamefinder.callback;
+
+/**
+ * Used to decide what a {@link CallbackDispatcher} does when its queue is full
+ *
+ * @author TheForbiddenAi
+ */
+public enum CallbackOverflowPolicy {
+
+    // The thread handing off the callback waits until there is room in the queue
+    BLOCK,
+    // The oldest queued callback is discarded to make room
+    DROP_OLDEST,
+    // The callback is rejected with a RejectedExecutionException
+    FAIL
+
+}
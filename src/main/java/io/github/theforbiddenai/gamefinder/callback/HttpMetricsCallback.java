@@ -0,0 +1,13 @@
+package io.github.theforbiddenai.gamefinder.callback;
+
+import io.github.theforbiddenai.gamefinder.domain.HttpRequestMetrics;
+
+/**
+ * This interface is used to define the callback method signature that is called
+ * every time an HTTP request made by GameFinder finishes
+ */
+public interface HttpMetricsCallback {
+
+    void recordRequest(HttpRequestMetrics metrics);
+
+}
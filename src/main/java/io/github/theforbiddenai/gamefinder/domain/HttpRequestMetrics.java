@@ -0,0 +1,42 @@
+package io.github.theforbiddenai.gamefinder.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+
+/**
+ * Holds the byte and latency accounting for a single HTTP request made by GameFinder
+ *
+ * @author TheForbiddenAi
+ */
+@Getter
+@Builder
+@ToString
+public class HttpRequestMetrics {
+
+    private final String method;
+    private final String url;
+    private final String host;
+
+    // The HTTP status code, or -1 if no response was received
+    @Builder.Default
+    private final int statusCode = -1;
+
+    // The protocol the response was received over (i.e. h2 or http/1.1)
+    private final String protocol;
+
+    // The number of bytes sent/received on the wire. The received count is before decompression
+    private final long bytesSent;
+    private final long bytesReceived;
+
+    // The time between the call starting and the call ending (including reading the response body)
+    private final Duration latency;
+
+    // Whether a new connection had to be established for this request
+    private final boolean newConnection;
+
+    private final boolean failed;
+
+}
@@ -0,0 +1,19 @@
+package io.github.theforbiddenai.gamefinder.domain;
+
+/**
+ * Used to store how far a platform's retrieval got before its deadline
+ *
+ * @author TheForbiddenAi
+ */
+public enum PlatformStatus {
+
+    // Every game was retrieved
+    COMPLETE,
+    // The platform's listings were retrieved, but some games failed or were still being web scraped at the deadline
+    PARTIAL,
+    // The platform's listings were still being retrieved at the deadline
+    TIMED_OUT,
+    // The platform's listings could not be retrieved
+    FAILED
+
+}
@@ -0,0 +1,48 @@
+package io.github.theforbiddenai.gamefinder.domain;
+
+import io.github.theforbiddenai.gamefinder.GameFinderConfiguration;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Locale;
+
+/**
+ * Identifies a platform's retrieval along with every configuration setting that changes its results. Two retrievals
+ * with equal keys return the same games
+ *
+ * @author TheForbiddenAi
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class RetrievalKey {
+
+    private final Platform platform;
+    private final Locale locale;
+    private final boolean includeDLCs;
+    private final boolean allowSteamMatureContentScreenshots;
+    private final boolean useGOGLocaleCookie;
+
+    public RetrievalKey(Platform platform, Locale locale, boolean includeDLCs, boolean allowSteamMatureContentScreenshots,
+                        boolean useGOGLocaleCookie) {
+        this.platform = platform;
+        this.locale = locale;
+        this.includeDLCs = includeDLCs;
+        this.allowSteamMatureContentScreenshots = allowSteamMatureContentScreenshots;
+        this.useGOGLocaleCookie = useGOGLocaleCookie;
+    }
+
+    /**
+     * Creates the key of a platform's retrieval using the current configuration
+     *
+     * @param platform The platform being retrieved
+     * @return The key
+     */
+    public static RetrievalKey of(Platform platform) {
+        GameFinderConfiguration config = GameFinderConfiguration.getInstance();
+        return new RetrievalKey(platform, config.getLocale(), config.includeDLCs(),
+                config.allowSteamMatureContentScreenshots(), config.useGOGLocaleCookie());
+    }
+
+}
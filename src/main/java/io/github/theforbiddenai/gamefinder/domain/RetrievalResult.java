@@ -0,0 +1,39 @@
+package io.github.theforbiddenai.gamefinder.domain;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the games found by a retrieval with a deadline, along with how far each platform's retrieval got
+ *
+ * @author TheForbiddenAi
+ */
+@Getter
+@ToString
+public class RetrievalResult {
+
+    // Every game that was completely retrieved before the deadline
+    private final List<Game> games;
+
+    private final Map<Platform, PlatformStatus> platformStatuses;
+
+    // The exception thrown by each platform that has a FAILED status
+    private final Map<Platform, Throwable> platformErrors;
+
+    public RetrievalResult(List<Game> games, Map<Platform, PlatformStatus> platformStatuses, Map<Platform, Throwable> platformErrors) {
+        this.games = games;
+        this.platformStatuses = platformStatuses;
+        this.platformErrors = platformErrors;
+    }
+
+    /**
+     * @return Whether every platform was completely retrieved
+     */
+    public boolean isComplete() {
+        return platformStatuses.values().stream().allMatch(status -> status == PlatformStatus.COMPLETE);
+    }
+
+}
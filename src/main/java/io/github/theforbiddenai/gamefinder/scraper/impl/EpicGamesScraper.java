@@ -10,12 +10,17 @@ import io.github.theforbiddenai.gamefinder.constants.GameFinderConstants;
 import io.github.theforbiddenai.gamefinder.domain.Game;
 import io.github.theforbiddenai.gamefinder.domain.Platform;
 import io.github.theforbiddenai.gamefinder.domain.ScraperResult;
+import io.github.theforbiddenai.gamefinder.utilities.concurrent.ForkedRequest;
+import io.github.theforbiddenai.gamefinder.utilities.concurrent.IOCallable;
+import io.github.theforbiddenai.gamefinder.utilities.concurrent.ParallelRequests;
+import io.github.theforbiddenai.gamefinder.utilities.http.HttpTransport;
+import okhttp3.HttpUrl;
 
 import java.io.IOException;
-import java.net.URL;
 import java.time.Instant;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.stream.StreamSupport;
 
 /**
@@ -29,19 +34,31 @@ public class EpicGamesScraper extends GameScraper {
 
     private static final String EPIC_STORE_URL = "https://store.epicgames.com/";
     private static final int MAX_ENTRIES = 100;
+    // The location of the game listings in both the GraphQL and freeGamesPromotions responses
+    private static final List<String> ELEMENTS_PATH = List.of("data", "Catalog", "searchStore", "elements");
 
     private final GraphQLClient graphQLClient;
+    private final HttpTransport transport;
 
     public EpicGamesScraper(ObjectMapper objectMapper) {
         super(objectMapper, Platform.EPIC_GAMES);
 
         this.graphQLClient = new GraphQLClient(objectMapper);
+        this.transport = HttpTransport.configured();
     }
 
     public EpicGamesScraper(ObjectMapper objectMapper, GraphQLClient graphQLClient) {
         super(objectMapper, Platform.EPIC_GAMES);
 
         this.graphQLClient = graphQLClient;
+        this.transport = HttpTransport.configured();
+    }
+
+    public EpicGamesScraper(ObjectMapper objectMapper, GraphQLClient graphQLClient, HttpTransport transport) {
+        super(objectMapper, Platform.EPIC_GAMES);
+
+        this.graphQLClient = graphQLClient;
+        this.transport = transport;
     }
 
     /**
@@ -49,77 +66,92 @@ public class EpicGamesScraper extends GameScraper {
      */
     @Override
     public Collection<ScraperResult> retrieveResults() throws GameRetrievalException {
-        try {
-            Set<ScraperResult> scraperResultSet = new HashSet<>();
+        Executor executor = CONFIG.getPlatformExecutor(Platform.EPIC_GAMES);
 
-            int startIndex = 0;
-            int pagingCount;
-            int pagingTotal;
+        // The freeGamesPromotions endpoint does not depend on the GraphQL API, so it is requested alongside the first page
+        ForkedRequest<Optional<JsonNode>> freeGamePromotionsRequest = ForkedRequest.fork(this::getFreeGamePromotions, executor);
+
+        try {
+            // Maps game titles to their ScraperResult. This is safe for the page requests to write to concurrently
+            Map<String, ScraperResult> scraperResultMap = new ConcurrentHashMap<>();
 
             // GraphQL API
 
-            do {
-                JsonNode searchStoreNode = retrieveGamesFromGraphQL(startIndex);
+            JsonNode firstPageNode = retrieveGamesFromGraphQL(0);
+            processElementsNode(firstPageNode.get("elements"), scraperResultMap);
 
-                JsonNode elementsListNode = searchStoreNode.get("elements");
-                JsonNode pagingNode = searchStoreNode.get("paging");
+            // Once the first page reveals the total, the offsets of the remaining pages are known
+            int pagingTotal = firstPageNode.get("paging").get("total").asInt();
 
-                processElementsNode(elementsListNode, scraperResultSet);
+            List<IOCallable<Void>> pageRequests = new ArrayList<>();
+            for (int startIndex = MAX_ENTRIES; startIndex < pagingTotal; startIndex += MAX_ENTRIES) {
+                int pageStartIndex = startIndex;
+                pageRequests.add(() -> {
+                    processElementsNode(retrieveGamesFromGraphQL(pageStartIndex).get("elements"), scraperResultMap);
+                    return null;
+                });
+            }
 
-                pagingTotal = pagingNode.get("total").asInt();
-                // This should always be equal to MAX_ENTRIES
-                pagingCount = pagingNode.get("count").asInt();
-                startIndex += pagingCount + 1;
-            } while (startIndex < pagingTotal);
+            ParallelRequests.executeAll(pageRequests, CONFIG.getMaxConcurrentPageRequests(), executor);
 
             // freeGamesPromotions endpoint
+            // This is processed last so that the more complete GraphQL listings take priority
 
-            Optional<JsonNode> freeGamePromotionsOptional = getFreeGamePromotions();
-            if(freeGamePromotionsOptional.isPresent()) {
+            Optional<JsonNode> freeGamePromotionsOptional = freeGamePromotionsRequest.join();
+            if (freeGamePromotionsOptional.isPresent()) {
                 JsonNode elementsListNode = freeGamePromotionsOptional.get();
-                processElementsNode(elementsListNode, scraperResultSet);
+                processElementsNode(elementsListNode, scraperResultMap);
             }
 
-            return scraperResultSet;
+            return new HashSet<>(scraperResultMap.values());
         } catch (IOException | NullPointerException ex) {
             throw new GameRetrievalException("Unable to retrieve games from EpicGames", ex);
+        } finally {
+            // Does nothing if the request was joined. Otherwise, the GraphQL API failed and the request is no longer needed
+            freeGamePromotionsRequest.cancel();
         }
     }
 
     /**
-     * Converts each child in elementsListNode to a game object and adds it to the scraperResultSet, assuming it is
+     * Converts each child in elementsListNode to a game object and adds it to the scraperResultMap, assuming it is
      * not deemed invalid. A game object is deemed invalid if it is null or if it is a DLC and DLCs are disabled in the config
      *
      * @param elementsListNode The JsonNode containing the game information
-     * @param scraperResultSet The set of ScraperResult objects to add the processed games to
+     * @param scraperResultMap The map of game titles to ScraperResult objects to add the processed games to
      */
-    private void processElementsNode(JsonNode elementsListNode, Set<ScraperResult> scraperResultSet) {
-        // Get set of all game titles that have already been processed
-        // This only needs to be calculated once when this function is called
-        Set<String> existingTitles = scraperResultSet.stream()
-                .map(scraperResult -> scraperResult.getGame().getTitle())
-                .collect(Collectors.toSet());
-
+    private void processElementsNode(JsonNode elementsListNode, Map<String, ScraperResult> scraperResultMap) {
         for (JsonNode gameNode : elementsListNode) {
             Optional<String> gameTitle = Optional.ofNullable(gameNode.get("title"))
                     .map(JsonNode::asText);
 
             // Skip node if it has no title or has already been processed
-            if(gameTitle.isEmpty() || existingTitles.contains(gameTitle.get())) continue;
+            if (gameTitle.isEmpty() || scraperResultMap.containsKey(gameTitle.get())) continue;
 
             // Convert each element to a game object using jsonToGame,
             Game game = jsonToGame(gameNode);
 
             // A game object is deemed invalid if it is null or if it is a DLC and DLCs are disabled in the config
             boolean isInvalidGame = game == null || (!CONFIG.includeDLCs() && game.isDLC());
-            // Only add to scraperResultSet if the game is valid
+            // Only add to scraperResultMap if the game is valid
             if (!isInvalidGame) {
-                // Wrap game object in a ScraperResult class and add it to the scraperResultSet list
-                scraperResultSet.add(new ScraperResult(game));
+                // Wrap game object in a ScraperResult class and add it to the scraperResultMap
+                // putIfAbsent is used in case another page processed the same title concurrently
+                scraperResultMap.putIfAbsent(gameTitle.get(), new ScraperResult(game));
             }
         }
     }
 
+    /**
+     * Checks if a game listing has a 100% discount. This is evaluated while the response is being streamed,
+     * so that only free listings are kept in memory
+     *
+     * @param gameNode The JsonNode object containing data about a game listing
+     * @return Whether the listing is free
+     */
+    private static boolean isFree(JsonNode gameNode) {
+        return gameNode.path("price").path("totalPrice").path("discountPrice").asInt(-1) == 0;
+    }
+
     /**
      * Converts a JsonNode object to a game object
      *
@@ -343,7 +375,9 @@ public class EpicGamesScraper extends GameScraper {
         variables.put("withPromotions", true);
         variables.put("withPrice", true);
 
-        return graphQLClient.executeQuery(GraphQLClient.STORE_QUERY, variables).get("data")
+        // Listings without a 100% discount are dropped while the response is being streamed
+        return graphQLClient.executeQuery(GraphQLClient.STORE_QUERY, variables, ELEMENTS_PATH, EpicGamesScraper::isFree)
+                .get("data")
                 .get("Catalog")
                 .get("searchStore");
     }
@@ -355,12 +389,12 @@ public class EpicGamesScraper extends GameScraper {
      * and is not listing as onSale
      *
      * @return An optional containing the elements JsonNode
-     * @throws IOException IOException If the URL is malformed or if the mapper is unable to parse the json data
+     * @throws IOException IOException If the request fails or if the mapper is unable to parse the json data
      */
     public Optional<JsonNode> getFreeGamePromotions() throws IOException {
         String localeString = CONFIG.getLocale().toString().replace("_", "-");
-        String url = "https://store-site-backend-static-ipv4.ak.epicgames.com/freeGamesPromotions?locale=" + localeString;
-        return Optional.of(getObjectMapper().readTree(new URL(url)))
+        HttpUrl url = HttpUrl.get("https://store-site-backend-static-ipv4.ak.epicgames.com/freeGamesPromotions?locale=" + localeString);
+        return Optional.of(transport.getJson(url, getObjectMapper(), ELEMENTS_PATH, EpicGamesScraper::isFree))
                 .map(node -> node.get("data"))
                 .map(node -> node.get("Catalog"))
                 .map(node -> node.get("searchStore"))
@@ -8,11 +8,16 @@ import io.github.theforbiddenai.gamefinder.scraper.GameScraper;
 import io.github.theforbiddenai.gamefinder.domain.Game;
 import io.github.theforbiddenai.gamefinder.domain.Platform;
 import io.github.theforbiddenai.gamefinder.domain.ScraperResult;
+import io.github.theforbiddenai.gamefinder.utilities.concurrent.ForkedRequest;
+import io.github.theforbiddenai.gamefinder.utilities.concurrent.IOCallable;
+import io.github.theforbiddenai.gamefinder.utilities.concurrent.ParallelRequests;
 import io.github.theforbiddenai.gamefinder.utilities.gog.GOGRequests;
 import io.github.theforbiddenai.gamefinder.webscraper.GOGWebScraper;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * Class responsible for retrieving games with a 100% discount from GOG
@@ -49,40 +54,52 @@ public class GOGScraper extends GameScraper {
      */
     @Override
     public Collection<ScraperResult> retrieveResults() throws GameRetrievalException {
-        try {
-            // Retrieve data
-            Optional<JsonNode> gameListOptional = gogRequests.getGameList();
-            Map<String, JsonNode> giveawayNodes = getGiveawayNodes();
-
-            // Make sure there is data to process
-            if (gameListOptional.isEmpty() && giveawayNodes.isEmpty()) return Set.of();
-
-            Set<ScraperResult> scraperResultSet = new HashSet<>();
+        // Retrieve data
+        // The home page sections do not depend on the catalog, so they are requested concurrently
+        ForkedRequest<Map<String, JsonNode>> giveawayNodesRequest = ForkedRequest.fork(this::getGiveawayNodes, CONFIG.getPlatformExecutor(Platform.GOG));
 
-            // Convert the values in giveaway nodes to ScraperResults and add the nonnull objects to the scraperResultSet list
-            giveawayNodes.values()
+        try {
+            // The catalog pages arrive on several threads at once, and each page is processed as soon as it arrives.
+            // A product can be listed on more than one page, so its id is claimed before it is web scraped
+            Set<String> seenIds = ConcurrentHashMap.newKeySet();
+            Queue<ScraperResult> scraperResults = new ConcurrentLinkedQueue<>();
+
+            gogRequests.getGameList(gameListNode -> {
+                // The giveaway nodes are needed to make sure a game isn't processed twice. They were requested
+                // alongside the first page, so this only waits if they have not arrived yet
+                Map<String, JsonNode> giveawayNodes;
+                try {
+                    giveawayNodes = giveawayNodesRequest.join();
+                } catch (IOException ex) {
+                    // The failure is thrown below, once the catalog has been retrieved
+                    return;
+                }
+
+                for (JsonNode gameNode : gameListNode) {
+                    String id = gameNode.get("id").asText();
+                    // Make sure this game isn't listed as a GIVEAWAY or on another page
+                    if (giveawayNodes.containsKey(id) || !seenIds.add(id)) continue;
+
+                    // Convert the gameNode to a ScraperResult and add it to the list if it isn't null
+                    ScraperResult scraperResult = getResultFromJson(gameNode);
+                    if (scraperResult != null) scraperResults.add(scraperResult);
+                }
+            });
+
+            // Convert the values in giveaway nodes to ScraperResults and add the nonnull objects to the results
+            giveawayNodesRequest.join()
+                    .values()
                     .stream()
                     .map(this::getResultFromJson)
                     .filter(Objects::nonNull)
-                    .forEach(scraperResultSet::add);
-
-            // There are no more games to process, return scraperResultSet
-            if (gameListOptional.isEmpty()) return scraperResultSet;
+                    .forEach(scraperResults::add);
 
-            // Loop through gameList JsonNodes
-            for (JsonNode gameNode : gameListOptional.get()) {
-                // Make sure this game isn't listed as a GIVEAWAY
-                String id = gameNode.get("id").asText();
-                if (giveawayNodes.containsKey(id)) continue;
-
-                // Convert the gameNode to a ScraperResult and add it to the list if it isn't null
-                ScraperResult scraperResult = getResultFromJson(gameNode);
-                if (scraperResult != null) scraperResultSet.add(scraperResult);
-            }
-
-            return scraperResultSet;
+            return new ArrayList<>(scraperResults);
         } catch (IOException ex) {
             throw new GameRetrievalException("Unable to retrieve games from GOG", ex);
+        } finally {
+            // Does nothing if the request has finished. Otherwise, the catalog failed and the request is no longer needed
+            giveawayNodesRequest.cancel();
         }
     }
 
@@ -108,12 +125,23 @@ public class GOGScraper extends GameScraper {
             giveawaySectionIds.add(homePageSectionNode.get("sectionId").asText());
         }
 
+        // Request the giveaway sections concurrently
+        List<IOCallable<Optional<JsonNode>>> sectionRequests = giveawaySectionIds.stream()
+                .<IOCallable<Optional<JsonNode>>>map(sectionId -> () -> gogRequests.getHomePageSection(sectionId))
+                .toList();
+
+        List<Optional<JsonNode>> giveawaySections = ParallelRequests.executeAll(
+                sectionRequests,
+                CONFIG.getMaxConcurrentPageRequests(),
+                CONFIG.getPlatformExecutor(Platform.GOG)
+        );
+
         Map<String, JsonNode> giveawaySectionMap = new HashMap<>();
 
-        // Loop through the giveaway section ids
-        for (String sectionId : giveawaySectionIds) {
-            // Get the section json information
-            Optional<JsonNode> productionOptional = gogRequests.getHomePageSection(sectionId)
+        // Loop through the giveaway sections
+        for (Optional<JsonNode> giveawaySectionOptional : giveawaySections) {
+            // Get the section's product json information
+            Optional<JsonNode> productionOptional = giveawaySectionOptional
                     .map(giveawaySection -> giveawaySection.get("product"));
             // Make sure the data was retrieved
             if (productionOptional.isEmpty()) continue;
@@ -10,7 +10,9 @@ import io.github.theforbiddenai.gamefinder.domain.Platform;
 import io.github.theforbiddenai.gamefinder.domain.ScraperResult;
 import io.github.theforbiddenai.gamefinder.exception.GameRetrievalException;
 import io.github.theforbiddenai.gamefinder.scraper.GameScraper;
+import io.github.theforbiddenai.gamefinder.utilities.concurrent.ForkedRequest;
 import io.github.theforbiddenai.gamefinder.utilities.steam.SteamRequests;
+import io.github.theforbiddenai.gamefinder.utilities.steam.StoreItemId;
 import io.github.theforbiddenai.gamefinder.webscraper.SteamWebScraper;
 
 import java.io.IOException;
@@ -52,47 +54,55 @@ public class SteamScraper extends GameScraper {
      */
     @Override
     public Collection<ScraperResult> retrieveResults() throws GameRetrievalException {
-        try {
-            Optional<JsonNode> gameListOptional = steamRequests.getFreeGames();
-            if (gameListOptional.isEmpty())
-                throw new GameRetrievalException("Unable to retrieve games lists from Steam");
-
-            // Get game list (json objects containing just name and url)
-            JsonNode gameList = gameListOptional.get();
+        List<ForkedRequest<Optional<JsonNode>>> itemRequests = new ArrayList<>();
 
-            // Pull out ids and format them to work with /IStoreBrowseService/GetItems/v1 endpoint
-            String jsonIdList = joinIds(gameList.elements());
-
-            // Submit request to /IStoreBrowseService/GetItems/v1 endpoint
-            Optional<JsonNode> itemListNodeOptional = steamRequests.getItems(jsonIdList);
+        try {
+            // Search results can shift between pages while they are being requested, so an id may show up on two pages
+            Set<StoreItemId> requestedIds = new HashSet<>();
+
+            // Each search page's ids are sent to the /IStoreBrowseService/GetItems/v1 endpoint as soon as the page
+            // arrives, so the remaining search pages are requested while the items are being retrieved
+            steamRequests.getFreeGames(gameList -> {
+                // Pull out ids and format them to work with /IStoreBrowseService/GetItems/v1 endpoint
+                List<StoreItemId> idList = extractIds(gameList);
+                idList.removeIf(id -> !requestedIds.add(id));
+                if (idList.isEmpty()) return;
+
+                // Submit request to /IStoreBrowseService/GetItems/v1 endpoint
+                itemRequests.add(ForkedRequest.fork(() -> steamRequests.getItems(idList, SteamScraper::isFree), CONFIG.getPlatformExecutor(Platform.STEAM)));
+            });
 
-            // Make sure data was returned, if not return empty list
-            if (itemListNodeOptional.isEmpty()) return Set.of();
+            Set<ScraperResult> scraperResultSet = new HashSet<>();
 
-            JsonNode itemListNode = itemListNodeOptional.get();
+            for (ForkedRequest<Optional<JsonNode>> itemRequest : itemRequests) {
+                // Make sure data was returned, if not skip this page
+                Optional<JsonNode> itemListNodeOptional = itemRequest.join();
+                if (itemListNodeOptional.isEmpty()) continue;
 
-            Set<ScraperResult> scraperResultSet = new HashSet<>();
-            // Convert each itemNode to ScraperResult and add to scraperResultSet list
-            itemListNode.forEach(itemNode -> {
-                ScraperResult scraperResult = convertItemNodeToScrapperResult(itemNode);
-                if (scraperResult != null) scraperResultSet.add(scraperResult);
-            });
+                // Convert each itemNode to ScraperResult and add to scraperResultSet list
+                itemListNodeOptional.get().forEach(itemNode -> {
+                    ScraperResult scraperResult = convertItemNodeToScrapperResult(itemNode);
+                    if (scraperResult != null) scraperResultSet.add(scraperResult);
+                });
+            }
 
             return scraperResultSet;
         } catch (IOException ex) {
             throw new GameRetrievalException("Unable to retrieve games from Steam", ex);
+        } finally {
+            // Does nothing for the requests that were joined. Otherwise, the retrieval failed and the rest are no longer needed
+            itemRequests.forEach(ForkedRequest::cancel);
         }
     }
 
     /**
-     * Converts an itemNode returned by /IStoreBrowseService/GetItems/v1 endpoint to a ScrapperResult
+     * Checks if an itemNode returned by /IStoreBrowseService/GetItems/v1 endpoint has a 100% discount.
+     * This is evaluated while the response is being streamed, so that only free items are kept in memory
      *
-     * @param itemNode The JsonNode being converted
-     * @return A ScrapperResult containing the game or a future game, or null if the game is not free
+     * @param itemNode The JsonNode being checked
+     * @return Whether the item is free
      */
-    private ScraperResult convertItemNodeToScrapperResult(JsonNode itemNode) {
-        Optional<JsonNode> bestPurchaseOptional = Optional.ofNullable(itemNode.get("best_purchase_option"));
-
+    private static boolean isFree(JsonNode itemNode) {
         /*
         I do not use the is_free_temporarily field because it does not account for scenarios where it is not possible
         to buy the item individually. It may be 100% off but the page that you would be directed to will still show it at full price.
@@ -102,11 +112,19 @@ public class SteamScraper extends GameScraper {
         get the discount you MUST buy it from Tell Me Why's page. Going to the page for Chapter 2 or Chapter 3 will show the bundle
         as it's full price. https://i.imgur.com/xgQYwqW.png
          */
-        boolean isFree = bestPurchaseOptional.map(node -> node.get("discount_pct"))
-                .map(JsonNode::asInt)
-                .orElse(0) == 100;
+        return itemNode.path("best_purchase_option").path("discount_pct").asInt() == 100;
+    }
 
-        if (!isFree) return null;
+    /**
+     * Converts an itemNode returned by /IStoreBrowseService/GetItems/v1 endpoint to a ScrapperResult
+     *
+     * @param itemNode The JsonNode being converted
+     * @return A ScrapperResult containing the game or a future game, or null if the game is not free
+     */
+    private ScraperResult convertItemNodeToScrapperResult(JsonNode itemNode) {
+        Optional<JsonNode> bestPurchaseOptional = Optional.ofNullable(itemNode.get("best_purchase_option"));
+
+        if (!isFree(itemNode)) return null;
 
         // A game is a dlc if it's itemNode has a related_items object containing a parent_appid field
         boolean isDLC = Optional.ofNullable(itemNode.get("related_items"))
@@ -308,56 +326,55 @@ public class SteamScraper extends GameScraper {
     }
 
     /**
-     * Converts each gameList element into json and separates each entry with a comma
+     * Converts each gameList element into the id form needed for the /IStoreBrowseService/GetItems/v1 endpoint
      *
-     * @param gameListIterator The game list iterator
-     * @return A string comprised of the id delimiter json.
+     * @param gameList The game list JsonNode
+     * @return A list of the found ids
      */
-    private String joinIds(Iterator<JsonNode> gameListIterator) {
-        StringBuilder idStringBuilder = new StringBuilder();
+    private List<StoreItemId> extractIds(JsonNode gameList) {
+        List<StoreItemId> idList = new ArrayList<>();
 
         // Loop through game list nodes
-        while (gameListIterator.hasNext()) {
-            // Get id json from node
-            String idJson = convertGameNodeToJson(gameListIterator.next());
-            if (idJson == null) continue;
-
-            // Add to string builder
-            idStringBuilder.append(idJson);
-            // Add delimiter if there is another element
-            if (gameListIterator.hasNext()) idStringBuilder.append(",");
+        for (JsonNode gameNode : gameList) {
+            // Get id from node
+            StoreItemId id = convertGameNodeToId(gameNode);
+            if (id != null) idList.add(id);
         }
 
-        return idStringBuilder.toString();
+        return idList;
     }
 
     /**
-     * Takes in a game node and converts it to the json format needed to for the /IStoreBrowseService/GetItems/v1 endpoint
+     * Takes in a game node and converts it to the id needed for the /IStoreBrowseService/GetItems/v1 endpoint
      * I.e. {"appId": 12345}
      *
      * @param gameNode THe json information of the listing (name and logo url)
-     * @return A string containing the information or null;
+     * @return The id or null if it can not be found
      */
-    private String convertGameNodeToJson(JsonNode gameNode) {
-        String logoUrl = gameNode.get("logo").asText();
+    private StoreItemId convertGameNodeToId(JsonNode gameNode) {
+        String logoUrl = Optional.ofNullable(gameNode.get("logo"))
+                .map(JsonNode::asText)
+                .orElse(null);
         if (logoUrl == null) return null;
 
-        if (logoUrl.contains("apps")) {
-            // Extract app id from logo url
-            String appId = extractId(logoUrl, "apps");
-            return ("{\"appId\":" + appId + "}");
-        }
+        try {
+            if (logoUrl.contains("apps")) {
+                // Extract app id from logo url
+                return new StoreItemId("appId", Long.parseLong(extractId(logoUrl, "apps")));
+            }
 
-        if (logoUrl.contains("subs")) {
-            // Extract package id from logo url
-            String packageId = extractId(logoUrl, "subs");
-            return ("{\"packageId\":" + packageId + "}");
-        }
+            if (logoUrl.contains("subs")) {
+                // Extract package id from logo url
+                return new StoreItemId("packageId", Long.parseLong(extractId(logoUrl, "subs")));
+            }
 
-        if (logoUrl.contains("bundles")) {
-            // Extract bundle id from logo url
-            String bundleId = extractId(logoUrl, "bundles");
-            return ("{\"bundleId\":" + bundleId + "}");
+            if (logoUrl.contains("bundles")) {
+                // Extract bundle id from logo url
+                return new StoreItemId("bundleId", Long.parseLong(extractId(logoUrl, "bundles")));
+            }
+        } catch (NumberFormatException | IndexOutOfBoundsException ex) {
+            // The logo url is not in the expected format
+            return null;
         }
 
         // Unknown type, so return null
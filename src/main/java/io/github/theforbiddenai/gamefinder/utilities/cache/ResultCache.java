@@ -0,0 +1,292 @@
+package io.github.theforbiddenai.gamefinder.utilities.cache;
+
+import io.github.theforbiddenai.gamefinder.GameFinderConfiguration;
+import io.github.theforbiddenai.gamefinder.constants.GameFinderConstants;
+import io.github.theforbiddenai.gamefinder.domain.Game;
+import io.github.theforbiddenai.gamefinder.domain.RetrievalKey;
+import io.github.theforbiddenai.gamefinder.domain.ScraperResult;
+import io.github.theforbiddenai.gamefinder.utilities.concurrent.RetrievalContext;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Caches the results of each platform's retrieval, keyed by {@link RetrievalKey}. An entry is fresh until the result
+ * cache TTL has passed or one of its games has expired. After that, the entry is stale: it is still served (without its
+ * expired games) for up to the max staleness while a refresh runs in the background. Only complete retrievals (every
+ * future game resolved successfully) are cached
+ *
+ * @author TheForbiddenAi
+ */
+public class ResultCache {
+
+    private static final GameFinderConfiguration CONFIG = GameFinderConfiguration.getInstance();
+
+    private final Map<RetrievalKey, CacheEntry> entries = new ConcurrentHashMap<>();
+    private final Set<RetrievalKey> refreshingKeys = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Gets a platform's results from the cache, or retrieves them if they are not cached
+     *
+     * @param key     The key of the retrieval
+     * @param context The caller's context, which the results are retrieved under on a cache miss
+     * @param loader  Retrieves the results under the given context
+     * @return A CompletableFuture containing the results
+     */
+    public CompletableFuture<Collection<ScraperResult>> get(RetrievalKey key, RetrievalContext context,
+                                                            Function<RetrievalContext, CompletableFuture<Collection<ScraperResult>>> loader) {
+        Duration ttl = CONFIG.getResultCacheTtl();
+        // A TTL of 0 disables the cache
+        if (ttl.isZero() || ttl.isNegative()) return loader.apply(context);
+
+        CacheEntry entry = entries.get(key);
+        if (entry != null) {
+            long nowEpoch = Instant.now().getEpochSecond();
+            Duration age = entry.getAge();
+
+            boolean hasExpiredGames = entry.hasExpiredGames(nowEpoch);
+            // Games are mutable, so every caller gets its own copies
+            Collection<ScraperResult> results = entry.copyUnexpiredResults(nowEpoch);
+
+            if (age.compareTo(ttl) < 0 && !hasExpiredGames) return CompletableFuture.completedFuture(results);
+
+            // The entry is stale, but it can still be served while it is refreshed in the background
+            if (age.compareTo(ttl.plus(CONFIG.getResultCacheMaxStaleness())) < 0) {
+                refreshInBackground(key, loader);
+                return CompletableFuture.completedFuture(results);
+            }
+        }
+
+        return load(key, context, loader);
+    }
+
+    /**
+     * Writes every cached result to a snapshot file, replacing the file atomically so that a crash while writing
+     * never leaves a partial snapshot behind. Results that are still being retrieved are not included
+     *
+     * @param file The file the snapshot is written to
+     * @throws IOException If the snapshot can not be written
+     */
+    public void saveSnapshot(Path file) throws IOException {
+        Map<RetrievalKey, List<Game>> results = new LinkedHashMap<>();
+        entries.forEach((key, entry) -> results.put(key, entry.results.stream().map(ScraperResult::getGame).toList()));
+
+        Path absoluteFile = file.toAbsolutePath();
+        Path directory = absoluteFile.getParent();
+        Files.createDirectories(directory);
+
+        Path tempFile = Files.createTempFile(directory, absoluteFile.getFileName().toString(), ".tmp");
+        try {
+            ResultSnapshot.write(Files.newOutputStream(tempFile), results);
+            try {
+                Files.move(tempFile, absoluteFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(tempFile, absoluteFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Loads the results in a snapshot file into the cache. Loaded results are stale: the first retrieval of each
+     * platform is answered with them immediately (without their expired games) while the results are refreshed in the
+     * background, and they are served for at most the max staleness after being loaded. Results that are already
+     * cached are not replaced. This does nothing useful while the result cache is disabled
+     *
+     * @param file The file the snapshot is read from
+     * @return The number of platform results that were loaded
+     * @throws IOException If the snapshot can not be read
+     */
+    public int loadSnapshot(Path file) throws IOException {
+        Map<RetrievalKey, List<Game>> results = ResultSnapshot.read(Files.newInputStream(file));
+
+        // Backdating the entries by the TTL makes them stale as soon as they are loaded
+        long cachedAtNanos = System.nanoTime() - CONFIG.getResultCacheTtl().toNanos();
+        int loadedCount = 0;
+
+        for (Map.Entry<RetrievalKey, List<Game>> result : results.entrySet()) {
+            List<ScraperResult> scraperResults = result.getValue().stream().map(ScraperResult::new).toList();
+            if (entries.putIfAbsent(result.getKey(), new CacheEntry(scraperResults, cachedAtNanos)) == null) loadedCount++;
+        }
+
+        return loadedCount;
+    }
+
+    /**
+     * Adds a platform's results to the cache
+     *
+     * @param key     The key of the retrieval
+     * @param results The results. Every future game must already be resolved
+     */
+    private void put(RetrievalKey key, Collection<ScraperResult> results) {
+        entries.put(key, new CacheEntry(results, System.nanoTime()));
+    }
+
+    /**
+     * Retrieves a platform's results, caching them once every future game has resolved
+     *
+     * @param key     The key of the retrieval
+     * @param context The context the results are retrieved under
+     * @param loader  Retrieves the results under the given context
+     * @return A CompletableFuture containing the results
+     */
+    private CompletableFuture<Collection<ScraperResult>> load(RetrievalKey key, RetrievalContext context,
+                                                             Function<RetrievalContext, CompletableFuture<Collection<ScraperResult>>> loader) {
+        return loader.apply(context).thenApply(results -> {
+            cacheOnceResolved(key, results);
+            // The cache keeps the retrieved games, so the caller is handed copies of them
+            return copyResults(results);
+        });
+    }
+
+    /**
+     * Copies results whose future games may not have resolved yet. Each future game is copied as soon as it resolves,
+     * before anything else can see it
+     *
+     * @param results The results being copied
+     * @return The copies
+     */
+    private static Collection<ScraperResult> copyResults(Collection<ScraperResult> results) {
+        return results.stream()
+                .map(scraperResult -> scraperResult.getGame() != null
+                        ? new ScraperResult(copyOf(scraperResult.getGame()))
+                        : new ScraperResult(scraperResult.getFutureGame().thenApply(game -> game != null ? copyOf(game) : null)))
+                .toList();
+    }
+
+    /**
+     * Refreshes an entry without making the caller wait on it. At most one refresh per key runs at once
+     *
+     * @param key    The key of the entry being refreshed
+     * @param loader Retrieves the results under the given context
+     */
+    private void refreshInBackground(RetrievalKey key, Function<RetrievalContext, CompletableFuture<Collection<ScraperResult>>> loader) {
+        if (!refreshingKeys.add(key)) return;
+
+        try {
+            // The refresh does not belong to any caller, so it runs under its own context
+            loader.apply(new RetrievalContext(null))
+                    .thenCompose(results -> cacheOnceResolved(key, results))
+                    .whenComplete((v, throwable) -> refreshingKeys.remove(key));
+        } catch (RuntimeException ex) {
+            refreshingKeys.remove(key);
+            throw ex;
+        }
+    }
+
+    /**
+     * Waits for every future game to resolve, then caches the results with the future games replaced by their games.
+     * If any future game fails, the results are not cached
+     *
+     * @param key     The key of the retrieval
+     * @param results The results
+     * @return A CompletableFuture that completes once the results are cached
+     */
+    private CompletableFuture<Void> cacheOnceResolved(RetrievalKey key, Collection<ScraperResult> results) {
+        CompletableFuture<?>[] futureGames = results.stream()
+                .map(ScraperResult::getFutureGame)
+                .filter(Objects::nonNull)
+                .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(futureGames).thenRun(() -> {
+            List<ScraperResult> resolvedResults = new ArrayList<>();
+
+            for (ScraperResult scraperResult : results) {
+                Game game = scraperResult.getGame() != null ? scraperResult.getGame() : scraperResult.getFutureGame().join();
+                if (game != null) resolvedResults.add(new ScraperResult(game));
+            }
+
+            put(key, resolvedResults);
+        });
+    }
+
+    /**
+     * Copies a game, including its media collections, so that changes made to the copy do not reach the cache
+     *
+     * @param game The game being copied
+     * @return The copy
+     */
+    private static Game copyOf(Game game) {
+        return Game.builder()
+                .title(game.getTitle())
+                .description(game.getDescription())
+                .url(game.getUrl())
+                .isDLC(game.isDLC())
+                .originalPrice(game.getOriginalPrice())
+                .platform(game.getPlatform())
+                .storeMedia(new HashMap<>(game.getStoreMedia()))
+                .media(new ArrayList<>(game.getMedia()))
+                .expirationEpoch(game.getExpirationEpoch())
+                .build();
+    }
+
+    /**
+     * A platform's cached results. The entry holds its own copies of the games, so that callers changing the games they
+     * were given can not change the cache
+     */
+    private static class CacheEntry {
+
+        private final Collection<ScraperResult> results;
+        private final long cachedAtNanos;
+
+        // The earliest expiration epoch of any cached game, or Long.MAX_VALUE if none of them expire
+        private final long earliestExpirationEpoch;
+
+        private CacheEntry(Collection<ScraperResult> results, long cachedAtNanos) {
+            this.results = results.stream()
+                    .map(scraperResult -> new ScraperResult(copyOf(scraperResult.getGame())))
+                    .toList();
+            this.cachedAtNanos = cachedAtNanos;
+            this.earliestExpirationEpoch = results.stream()
+                    .mapToLong(CacheEntry::getExpirationEpoch)
+                    .min()
+                    .orElse(Long.MAX_VALUE);
+        }
+
+        private Duration getAge() {
+            return Duration.ofNanos(System.nanoTime() - cachedAtNanos);
+        }
+
+        private boolean hasExpiredGames(long nowEpoch) {
+            return earliestExpirationEpoch <= nowEpoch;
+        }
+
+        /**
+         * @return Copies of the results whose games have not expired
+         */
+        private Collection<ScraperResult> copyUnexpiredResults(long nowEpoch) {
+            return results.stream()
+                    .filter(scraperResult -> getExpirationEpoch(scraperResult) > nowEpoch)
+                    .map(scraperResult -> new ScraperResult(copyOf(scraperResult.getGame())))
+                    .toList();
+        }
+
+        /**
+         * @return The expiration epoch of a cached result's game, or Long.MAX_VALUE if it does not expire
+         */
+        private static long getExpirationEpoch(ScraperResult scraperResult) {
+            Long expirationEpoch = scraperResult.getGame().getExpirationEpoch();
+            if (expirationEpoch == null || expirationEpoch == GameFinderConstants.NO_EXPIRATION_EPOCH) return Long.MAX_VALUE;
+            return expirationEpoch;
+        }
+
+    }
+
+}
@@ -0,0 +1,207 @@
+package io.github.theforbiddenai.gamefinder.utilities.cache;
+
+import io.github.theforbiddenai.gamefinder.domain.Game;
+import io.github.theforbiddenai.gamefinder.domain.Platform;
+import io.github.theforbiddenai.gamefinder.domain.RetrievalKey;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Reads and writes the snapshot of a {@link ResultCache}. A snapshot is a gzipped binary file holding each cached
+ * retrieval's key and games. It is parsed by hand from memory (no reflection), so that thousands of games load in a few milliseconds
+ *
+ * @author TheForbiddenAi
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+class ResultSnapshot {
+
+    // "GFS" followed by the format's version
+    private static final int MAGIC = 0x47465301;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Writes a snapshot
+     *
+     * @param outputStream The stream the snapshot is written to. It is closed once the snapshot is written
+     * @param results      The games of each cached retrieval
+     * @throws IOException If the snapshot can not be written
+     */
+    static void write(OutputStream outputStream, Map<RetrievalKey, List<Game>> results) throws IOException {
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(outputStream, BUFFER_SIZE), BUFFER_SIZE))) {
+            output.writeInt(MAGIC);
+            output.writeInt(results.size());
+
+            for (Map.Entry<RetrievalKey, List<Game>> entry : results.entrySet()) {
+                writeKey(output, entry.getKey());
+
+                output.writeInt(entry.getValue().size());
+                for (Game game : entry.getValue()) {
+                    writeGame(output, game);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads a snapshot
+     *
+     * @param inputStream The stream the snapshot is read from. It is closed once the snapshot is read
+     * @return The games of each cached retrieval
+     * @throws IOException If the snapshot can not be read, or it is not a snapshot
+     */
+    static Map<RetrievalKey, List<Game>> read(InputStream inputStream) throws IOException {
+        // The whole snapshot is decompressed at once and parsed from memory, which is much cheaper than reading it
+        // field by field through a stream, especially before the JIT has compiled the parsing code
+        byte[] bytes;
+        try (InputStream input = new GZIPInputStream(inputStream, BUFFER_SIZE)) {
+            bytes = input.readAllBytes();
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            if (buffer.getInt() != MAGIC) throw new IOException("Unsupported snapshot format");
+
+            int entryCount = buffer.getInt();
+            Map<RetrievalKey, List<Game>> results = new LinkedHashMap<>();
+
+            for (int i = 0; i < entryCount; i++) {
+                RetrievalKey key = readKey(buffer);
+
+                int gameCount = buffer.getInt();
+                List<Game> games = new ArrayList<>(gameCount);
+                for (int j = 0; j < gameCount; j++) {
+                    games.add(readGame(buffer));
+                }
+
+                results.put(key, games);
+            }
+
+            return results;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException ex) {
+            // Thrown when the snapshot is truncated, or an enum constant or locale in it is not valid
+            throw new IOException("Invalid snapshot", ex);
+        }
+    }
+
+    private static void writeKey(DataOutput output, RetrievalKey key) throws IOException {
+        writeString(output, key.getPlatform().name());
+        writeString(output, key.getLocale().toLanguageTag());
+        output.writeBoolean(key.isIncludeDLCs());
+        output.writeBoolean(key.isAllowSteamMatureContentScreenshots());
+        output.writeBoolean(key.isUseGOGLocaleCookie());
+    }
+
+    private static RetrievalKey readKey(ByteBuffer buffer) {
+        return new RetrievalKey(
+                Platform.valueOf(readString(buffer)),
+                Locale.forLanguageTag(readString(buffer)),
+                readBoolean(buffer),
+                readBoolean(buffer),
+                readBoolean(buffer)
+        );
+    }
+
+    private static void writeGame(DataOutput output, Game game) throws IOException {
+        writeString(output, game.getTitle());
+        writeString(output, game.getDescription());
+        writeString(output, game.getUrl());
+        output.writeBoolean(game.isDLC());
+        writeString(output, game.getOriginalPrice());
+        writeString(output, game.getPlatform().name());
+
+        Map<String, String> storeMedia = game.getStoreMedia();
+        output.writeInt(storeMedia.size());
+        for (Map.Entry<String, String> entry : storeMedia.entrySet()) {
+            writeString(output, entry.getKey());
+            writeString(output, entry.getValue());
+        }
+
+        List<String> media = game.getMedia();
+        output.writeInt(media.size());
+        for (String mediaUrl : media) {
+            writeString(output, mediaUrl);
+        }
+
+        Long expirationEpoch = game.getExpirationEpoch();
+        output.writeBoolean(expirationEpoch != null);
+        if (expirationEpoch != null) output.writeLong(expirationEpoch);
+    }
+
+    private static Game readGame(ByteBuffer buffer) {
+        Game.GameBuilder builder = Game.builder()
+                .title(readString(buffer))
+                .description(readString(buffer))
+                .url(readString(buffer))
+                .isDLC(readBoolean(buffer))
+                .originalPrice(readString(buffer))
+                .platform(Platform.valueOf(readString(buffer)));
+
+        int storeMediaCount = buffer.getInt();
+        Map<String, String> storeMedia = new HashMap<>();
+        for (int i = 0; i < storeMediaCount; i++) {
+            storeMedia.put(readString(buffer), readString(buffer));
+        }
+
+        int mediaCount = buffer.getInt();
+        List<String> media = new ArrayList<>(mediaCount);
+        for (int i = 0; i < mediaCount; i++) {
+            media.add(readString(buffer));
+        }
+
+        Long expirationEpoch = readBoolean(buffer) ? buffer.getLong() : null;
+
+        return builder.storeMedia(storeMedia)
+                .media(media)
+                .expirationEpoch(expirationEpoch)
+                .build();
+    }
+
+    /**
+     * Writes a string that may be null, prefixed by its length in bytes. Unlike {@link DataOutput#writeUTF(String)},
+     * the string can be longer than 64KB
+     */
+    private static void writeString(DataOutput output, String string) throws IOException {
+        if (string == null) {
+            output.writeInt(-1);
+            return;
+        }
+
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) return null;
+
+        // Decodes the string in place, without copying its bytes out of the buffer first
+        String string = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return string;
+    }
+
+    private static boolean readBoolean(ByteBuffer buffer) {
+        return buffer.get() != 0;
+    }
+
+}
@@ -0,0 +1,219 @@
+package io.github.theforbiddenai.gamefinder.utilities.cache;
+
+import io.github.theforbiddenai.gamefinder.GameFinderConfiguration;
+import io.github.theforbiddenai.gamefinder.constants.GameFinderConstants;
+import io.github.theforbiddenai.gamefinder.utilities.concurrent.RetrievalContext;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Caches the data web scraped from each page. Requests for a page that is already being web scraped share the
+ * in-flight request. Once scraped, the data is kept until the web scrape cache TTL passes or the data's expiration epoch
+ * passes, whichever is first. Failures are kept for the (much shorter) failure TTL, so a broken page is not requested
+ * again on every poll. Timeouts and cancellations say nothing about the page, so they are never cached. Once the cache
+ * is full, the least recently used page is evicted.
+ * <p>
+ * A shared web scrape runs under its own {@link RetrievalContext}, so that it is not cut short by the deadline or
+ * cancellation of whichever retrieval happened to request the page first. Each caller's deadline and cancellation only
+ * apply to the future that caller receives
+ *
+ * @param <T> The type of the web scraped data
+ * @author TheForbiddenAi
+ */
+public class WebScrapeCache<T> {
+
+    private static final GameFinderConfiguration CONFIG = GameFinderConfiguration.getInstance();
+
+    // Iterates from the least recently used entry to the most recently used entry
+    private final Map<String, CacheEntry<T>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final ToLongFunction<T> expirationEpochFunction;
+
+    /**
+     * @param expirationEpochFunction Gets the epoch second that web scraped data expires at, or
+     *                                {@link GameFinderConstants#NO_EXPIRATION_EPOCH} if it does not expire
+     */
+    public WebScrapeCache(ToLongFunction<T> expirationEpochFunction) {
+        this.expirationEpochFunction = expirationEpochFunction;
+    }
+
+    /**
+     * Gets a page's data from the cache, or web scrapes it if it is not cached
+     *
+     * @param key    The key of the page (i.e. its url and locale)
+     * @param loader Web scrapes the page
+     * @return A CompletableFuture containing the page's data
+     */
+    public CompletableFuture<T> get(String key, Supplier<CompletableFuture<T>> loader) {
+        Duration ttl = CONFIG.getWebScrapeCacheTtl();
+        int maxEntries = CONFIG.getWebScrapeCacheMaxEntries();
+        // A TTL of 0 or a size of 0 disables the cache
+        if (ttl.isZero() || ttl.isNegative() || maxEntries <= 0) return loader.get();
+
+        CacheEntry<T> entry;
+        boolean isNewEntry = false;
+
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry == null || entry.isExpired()) {
+                entry = new CacheEntry<>();
+                entries.put(key, entry);
+                isNewEntry = true;
+
+                evict(maxEntries);
+            }
+        }
+
+        if (isNewEntry) load(key, entry, loader, ttl);
+
+        // Each caller gets its own copy, so that a caller completing its future does not affect the other callers
+        return bindToCaller(entry.future.copy());
+    }
+
+    /**
+     * @return The number of cached pages (including pages that are being web scraped)
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes every page from the cache
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Web scrapes a page and sets when its entry expires
+     *
+     * @param key    The key of the page
+     * @param entry  The page's entry
+     * @param loader Web scrapes the page
+     * @param ttl    The maximum amount of time the page's data is cached for
+     */
+    private void load(String key, CacheEntry<T> entry, Supplier<CompletableFuture<T>> loader, Duration ttl) {
+        // The web scrape is shared by every caller, so it does not belong to any caller's retrieval
+        RetrievalContext loadContext = new RetrievalContext(null);
+
+        CompletableFuture<T> dataFuture;
+        try {
+            dataFuture = loadContext.wrap(loader).get();
+        } catch (RuntimeException ex) {
+            dataFuture = CompletableFuture.failedFuture(ex);
+        }
+
+        dataFuture.whenComplete((data, throwable) -> {
+            long nowMillis = System.currentTimeMillis();
+
+            if (throwable == null) {
+                entry.expiresAtMillis = Math.min(nowMillis + ttl.toMillis(), getExpirationMillis(data));
+                entry.future.complete(data);
+                return;
+            }
+
+            // A web scrape that timed out or was cancelled says nothing about the page, so it is not cached
+            if (isTimeoutOrCancellation(throwable)) {
+                remove(key, entry);
+            } else {
+                entry.expiresAtMillis = nowMillis + CONFIG.getWebScrapeCacheFailureTtl().toMillis();
+            }
+
+            entry.future.completeExceptionally(throwable);
+        });
+    }
+
+    /**
+     * Applies the deadline and cancellation of the calling thread's retrieval (if any) to a caller's copy of a page's future
+     *
+     * @param future The caller's copy
+     * @return The same future
+     */
+    private CompletableFuture<T> bindToCaller(CompletableFuture<T> future) {
+        RetrievalContext context = RetrievalContext.current();
+        if (context == null || future.isDone()) return future;
+
+        if (context.getDeadline() != null) future.orTimeout(context.getRemainingMillis(), TimeUnit.MILLISECONDS);
+        context.onCancel(() -> future.cancel(false));
+
+        return future;
+    }
+
+    /**
+     * @param throwable The reason a web scrape failed
+     * @return Whether the web scrape failed because it timed out or was cancelled, rather than because of the page
+     */
+    private static boolean isTimeoutOrCancellation(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            // OkHttp reports both timeouts and cancelled calls as an InterruptedIOException or an IOException("Canceled")
+            if (cause instanceof InterruptedIOException || cause instanceof TimeoutException || cause instanceof CancellationException) return true;
+            if (cause instanceof IOException && "Canceled".equals(cause.getMessage())) return true;
+        }
+        return false;
+    }
+
+    /**
+     * @param data The web scraped data
+     * @return The epoch millisecond the data expires at, Long.MAX_VALUE if it does not expire, or 0 if its expiration can not be read
+     */
+    private long getExpirationMillis(T data) {
+        long expirationEpoch;
+        try {
+            expirationEpoch = data == null ? GameFinderConstants.NO_EXPIRATION_EPOCH : expirationEpochFunction.applyAsLong(data);
+        } catch (RuntimeException ex) {
+            // If the expiration can not be read from the data, the data is not cached
+            return 0;
+        }
+
+        if (expirationEpoch == GameFinderConstants.NO_EXPIRATION_EPOCH) return Long.MAX_VALUE;
+        return TimeUnit.SECONDS.toMillis(expirationEpoch);
+    }
+
+    private synchronized void remove(String key, CacheEntry<T> entry) {
+        entries.remove(key, entry);
+    }
+
+    /**
+     * Evicts the least recently used pages until there are at most maxEntries pages. This must be called while holding
+     * this object's lock
+     *
+     * @param maxEntries The maximum number of cached pages
+     */
+    private void evict(int maxEntries) {
+        Iterator<CacheEntry<T>> iterator = entries.values().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * A page's cached data, or the in-flight web scrape of it
+     *
+     * @param <T> The type of the web scraped data
+     */
+    private static class CacheEntry<T> {
+
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        // An in-flight web scrape never expires
+        private volatile long expiresAtMillis = Long.MAX_VALUE;
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAtMillis;
+        }
+
+    }
+
+}
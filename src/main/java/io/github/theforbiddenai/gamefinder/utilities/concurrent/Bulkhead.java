@@ -0,0 +1,242 @@
+package io.github.theforbiddenai.gamefinder.utilities.concurrent;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * An executor that caps how many of its tasks run on an underlying executor at once. Tasks submitted past the cap are
+ * queued (never blocked on) and are dispatched as running tasks finish. Because no thread waits for a slot, a task that
+ * joins the tasks it submitted can not deadlock the bulkhead. Each task runs with the {@link RetrievalContext} of the
+ * thread that submitted it. Asynchronous tasks can also be run through {@link #executeAsync(Supplier)}, in which case
+ * they hold their slot until the future they return completes rather than until they return.
+ * <p>
+ * If the underlying executor rejects a queued task (i.e. it has been shut down), the task is failed and its slot is
+ * handed to the next queued task. Only tasks submitted through {@link #supplyAsync(Supplier)} or
+ * {@link #executeAsync(Supplier)}, or tasks that are a {@link Future}, can be failed, so those should be preferred over
+ * {@link CompletableFuture#supplyAsync(Supplier, Executor)}
+ *
+ * @author TheForbiddenAi
+ */
+public class Bulkhead implements Executor {
+
+    private final Supplier<? extends Executor> executorSupplier;
+    private final IntSupplier maxConcurrencySupplier;
+
+    private final Queue<Starter> queuedTasks = new ArrayDeque<>();
+    private int runningTasks;
+
+    /**
+     * @param executorSupplier       Supplies the executor that tasks are dispatched to. This is called for each task,
+     *                               so changes to the underlying executor apply to the next dispatched task
+     * @param maxConcurrencySupplier Supplies the maximum number of tasks that run at once. This is called for each task,
+     *                               so changes to the cap apply to the next submitted task
+     */
+    public Bulkhead(Supplier<? extends Executor> executorSupplier, IntSupplier maxConcurrencySupplier) {
+        this.executorSupplier = executorSupplier;
+        this.maxConcurrencySupplier = maxConcurrencySupplier;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void execute(Runnable task) {
+        // Queued tasks may run on another thread long after they are submitted, so the submitter's context is bound now
+        Runnable boundTask = RetrievalContext.propagate(task);
+        Starter starter = new Starter(() -> runAndRelease(boundTask), ex -> {
+            // A plain Runnable can not be failed, but a Future (i.e. a FutureTask) can be cancelled
+            if (task instanceof Future<?> future) future.cancel(false);
+        });
+
+        if (!tryAcquire(starter)) return;
+
+        try {
+            executorSupplier.get().execute(starter.start());
+        } catch (RejectedExecutionException ex) {
+            release();
+            throw ex;
+        }
+    }
+
+    /**
+     * Runs a task once a slot is free, like {@link CompletableFuture#supplyAsync(Supplier, Executor)}. Unlike it, the
+     * returned future is failed if the underlying executor rejects the task
+     *
+     * @param supplier The task
+     * @param <T>      The type of the result
+     * @return A CompletableFuture containing the result of the task
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        RetrievalContext context = RetrievalContext.current();
+        Supplier<T> boundSupplier = context == null ? supplier : context.wrap(supplier);
+
+        Runnable task = () -> {
+            try {
+                future.complete(boundSupplier.get());
+            } catch (Throwable throwable) {
+                // Matches CompletableFuture#supplyAsync, which wraps the failure in a CompletionException
+                future.completeExceptionally(throwable instanceof CompletionException ? throwable : new CompletionException(throwable));
+            }
+        };
+
+        Starter starter = new Starter(() -> runAndRelease(task), future::completeExceptionally);
+        if (tryAcquire(starter)) dispatch(starter);
+
+        return future;
+    }
+
+    /**
+     * Runs an asynchronous task once a slot is free. The slot is held until the future returned by the task completes,
+     * without a thread being held for it. If a slot is free, the task is started on the calling thread
+     *
+     * @param task Starts the task
+     * @param <T>  The type of the result
+     * @return A CompletableFuture containing the result of the task
+     */
+    public <T> CompletableFuture<T> executeAsync(Supplier<? extends CompletionStage<T>> task) {
+        AsyncStarter<T> asyncStarter = new AsyncStarter<>(RetrievalContext.current(), task);
+
+        if (tryAcquire(new Starter(asyncStarter, asyncStarter.future::completeExceptionally))) asyncStarter.run();
+        return asyncStarter.future;
+    }
+
+    /**
+     * @return The number of tasks that are currently running
+     */
+    public synchronized int getRunningCount() {
+        return runningTasks;
+    }
+
+    /**
+     * @return The number of tasks waiting for a slot
+     */
+    public synchronized int getQueuedCount() {
+        return queuedTasks.size();
+    }
+
+    /**
+     * Takes a slot, or queues the starter if none are free
+     *
+     * @param starter Starts the task once it holds a slot
+     * @return Whether a slot was taken. If not, the starter is dispatched once a slot is handed to it
+     */
+    private synchronized boolean tryAcquire(Starter starter) {
+        if (runningTasks >= Math.max(1, maxConcurrencySupplier.getAsInt())) {
+            queuedTasks.add(starter);
+            return false;
+        }
+
+        runningTasks++;
+        return true;
+    }
+
+    /**
+     * Sends the starter of a task that already holds a slot to the underlying executor. If it is rejected, the task is
+     * failed and its slot is released
+     *
+     * @param starter The starter being dispatched
+     */
+    private void dispatch(Starter starter) {
+        try {
+            executorSupplier.get().execute(starter.start());
+        } catch (RejectedExecutionException ex) {
+            starter.onRejected().accept(ex);
+            release();
+        }
+    }
+
+    /**
+     * Runs a task, then hands its slot to the next queued task
+     *
+     * @param task The task being run
+     */
+    private void runAndRelease(Runnable task) {
+        try {
+            task.run();
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Frees a slot. If a task is queued, the slot is handed to it instead. A queued task that the underlying executor
+     * rejects is failed, and the slot is handed down the queue. This never throws, since the releasing thread belongs
+     * to an unrelated task
+     */
+    private void release() {
+        while (true) {
+            Starter nextTask;
+
+            synchronized (this) {
+                nextTask = queuedTasks.poll();
+                if (nextTask == null) {
+                    runningTasks--;
+                    return;
+                }
+            }
+
+            try {
+                executorSupplier.get().execute(nextTask.start());
+                return;
+            } catch (RejectedExecutionException ex) {
+                nextTask.onRejected().accept(ex);
+            }
+        }
+    }
+
+    /**
+     * Starts a task that holds a slot
+     *
+     * @param start      Starts the task, and releases the slot once the task is done
+     * @param onRejected Fails the task if the underlying executor rejects it
+     */
+    private record Starter(Runnable start, Consumer<RejectedExecutionException> onRejected) {
+    }
+
+    /**
+     * Starts an asynchronous task and releases its slot once the future it returns completes
+     *
+     * @param <T> The type of the result
+     */
+    private class AsyncStarter<T> implements Runnable {
+
+        private final RetrievalContext context;
+        private final Supplier<? extends CompletionStage<T>> task;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private AsyncStarter(RetrievalContext context, Supplier<? extends CompletionStage<T>> task) {
+            this.context = context;
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            CompletionStage<T> taskStage;
+            try {
+                taskStage = context == null ? task.get() : context.wrap(task).get();
+            } catch (RuntimeException ex) {
+                release();
+                future.completeExceptionally(ex);
+                return;
+            }
+
+            taskStage.whenComplete((result, throwable) -> {
+                release();
+                if (throwable != null) future.completeExceptionally(throwable);
+                else future.complete(result);
+            });
+        }
+
+    }
+
+}
@@ -0,0 +1,111 @@
+package io.github.theforbiddenai.gamefinder.utilities.concurrent;
+
+import java.time.Duration;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Stops calls to a service that keeps failing. After a number of consecutive failures the breaker opens, and every
+ * call fails fast until the open duration has passed. A single trial call is then let through (half open): if it
+ * succeeds the breaker closes, otherwise it opens again
+ *
+ * @author TheForbiddenAi
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final IntSupplier failureThresholdSupplier;
+    private final Supplier<Duration> openDurationSupplier;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private boolean trialInProgress;
+
+    /**
+     * @param failureThresholdSupplier Supplies the number of consecutive failures that open the breaker.
+     *                                 A threshold of 0 or less disables the breaker
+     * @param openDurationSupplier     Supplies how long the breaker stays open before a trial call is let through
+     */
+    public CircuitBreaker(IntSupplier failureThresholdSupplier, Supplier<Duration> openDurationSupplier) {
+        this.failureThresholdSupplier = failureThresholdSupplier;
+        this.openDurationSupplier = openDurationSupplier;
+    }
+
+    /**
+     * Checks if a call is allowed. If this returns true, the result of the call must be reported to
+     * {@link #recordSuccess()}, {@link #recordFailure()}, or {@link #recordAbandoned()}
+     *
+     * @return Whether the call is allowed
+     */
+    public synchronized boolean tryAcquire() {
+        if (failureThresholdSupplier.getAsInt() <= 0) return true;
+
+        switch (state) {
+            case OPEN -> {
+                if (System.nanoTime() - openedAtNanos < openDurationSupplier.get().toNanos()) return false;
+
+                // The open duration has passed, so this call becomes the trial call
+                state = State.HALF_OPEN;
+                trialInProgress = true;
+                return true;
+            }
+            case HALF_OPEN -> {
+                // Only one trial call is allowed at once
+                if (trialInProgress) return false;
+
+                trialInProgress = true;
+                return true;
+            }
+            default -> {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Reports a successful call, closing the breaker
+     */
+    public synchronized void recordSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInProgress = false;
+    }
+
+    /**
+     * Reports a failed call. The breaker opens if the trial call failed or if the failure threshold has been reached
+     */
+    public synchronized void recordFailure() {
+        consecutiveFailures++;
+        trialInProgress = false;
+
+        int failureThreshold = failureThresholdSupplier.getAsInt();
+        if (failureThreshold <= 0) return;
+
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAtNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Reports a call that was abandoned before its result was known (i.e. it was cancelled). This neither closes nor
+     * opens the breaker, but allows another trial call if the abandoned call was the trial call
+     */
+    public synchronized void recordAbandoned() {
+        trialInProgress = false;
+    }
+
+    /**
+     * @return The current state of the breaker
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+}
@@ -0,0 +1,95 @@
+package io.github.theforbiddenai.gamefinder.utilities.concurrent;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A request that is submitted to an executor, but can be claimed and run by the thread that joins it if no executor
+ * thread has picked it up yet. This prevents a scraper that blocks on its own requests from deadlocking a small or
+ * saturated executor
+ *
+ * @param <R> The type of the result
+ * @author TheForbiddenAi
+ */
+public class ForkedRequest<R> {
+
+    private final IOCallable<R> request;
+    private final AtomicBoolean claimed = new AtomicBoolean();
+    private final CompletableFuture<R> future = new CompletableFuture<>();
+
+    // The calls made by the request are registered here, so that the request can be cancelled on its own
+    private final RetrievalContext context;
+
+    private ForkedRequest(IOCallable<R> request, RetrievalContext callerContext) {
+        this.request = request;
+        this.context = new RetrievalContext(callerContext == null ? null : callerContext.getDeadline());
+
+        // Cancelling the caller's retrieval also cancels the request
+        if (callerContext != null) callerContext.onCancel(context::cancel);
+    }
+
+    /**
+     * Submits a request to an executor
+     *
+     * @param request  The request being executed
+     * @param executor The executor the request is submitted to
+     * @param <R>      The type of the result
+     * @return A ForkedRequest that can be joined to retrieve the result
+     */
+    public static <R> ForkedRequest<R> fork(IOCallable<R> request, Executor executor) {
+        ForkedRequest<R> forkedRequest = new ForkedRequest<>(request, RetrievalContext.current());
+        executor.execute(forkedRequest::tryRun);
+        return forkedRequest;
+    }
+
+    /**
+     * Waits for the request to complete. If the request has not been started yet, it is run on the calling thread
+     *
+     * @return The result of the request
+     * @throws IOException If the request threw an IOException
+     */
+    public R join() throws IOException {
+        tryRun();
+
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            throw ParallelRequests.unwrap(ex);
+        }
+    }
+
+    /**
+     * Cancels the request. If it has not been started yet, it never runs. Otherwise, every call it has made is cancelled.
+     * Either way, joining the request afterward throws an IOException
+     */
+    public void cancel() {
+        if (claimed.compareAndSet(false, true)) future.completeExceptionally(new IOException("Canceled"));
+        context.cancel();
+    }
+
+    /**
+     * @return A CompletableFuture that is completed with the result of the request
+     */
+    public CompletableFuture<R> toCompletableFuture() {
+        return future;
+    }
+
+    /**
+     * Runs the request if it has not already been claimed by another thread
+     */
+    private void tryRun() {
+        if (!claimed.compareAndSet(false, true)) return;
+
+        context.wrap(() -> {
+            try {
+                future.complete(request.call());
+            } catch (Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+        }).run();
+    }
+
+}
@@ -0,0 +1,16 @@
+package io.github.theforbiddenai.gamefinder.utilities.concurrent;
+
+import java.io.IOException;
+
+/**
+ * A request that returns a result and may throw an IOException
+ *
+ * @param <R> The type of the result
+ * @author TheForbiddenAi
+ */
+@FunctionalInterface
+public interface IOCallable<R> {
+
+    R call() throws IOException;
+
+}
@@ -0,0 +1,111 @@
+package io.github.theforbiddenai.gamefinder.utilities.concurrent;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Executes a group of independent requests concurrently with a bounded degree of parallelism
+ *
+ * @author TheForbiddenAi
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ParallelRequests {
+
+    /**
+     * Executes a list of requests concurrently. At most {@code maxConcurrency} requests are in flight at once.
+     * The calling thread takes part in executing the requests, so this will never deadlock even if the
+     * executor has no free threads. This method blocks until all requests have been executed
+     *
+     * @param requests       The requests being executed
+     * @param maxConcurrency The maximum number of requests that are executed at once
+     * @param executor       The executor used to execute the requests
+     * @param <R>            The type of the results
+     * @return The results of the requests, in the same order as the requests
+     * @throws IOException If any of the requests throw an IOException, or the calling thread's {@link RetrievalContext}
+     *                     is cancelled. Once a request fails, no new requests are started
+     */
+    public static <R> List<R> executeAll(List<? extends IOCallable<R>> requests, int maxConcurrency, Executor executor) throws IOException {
+        int size = requests.size();
+        if (size == 0) return List.of();
+
+        Object[] results = new Object[size];
+        AtomicInteger nextIndex = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        RetrievalContext context = RetrievalContext.current();
+
+        // Each worker claims and executes requests until there are none left
+        IOCallable<Void> worker = () -> {
+            int index;
+            while (failure.get() == null && (index = nextIndex.getAndIncrement()) < size) {
+                try {
+                    // Requests that have not been started are abandoned once the retrieval is cancelled
+                    if (context != null && context.isCancelled()) throw new IOException("Canceled");
+                    results[index] = requests.get(index).call();
+                } catch (Throwable throwable) {
+                    failure.compareAndSet(null, throwable);
+                }
+            }
+            return null;
+        };
+
+        // The calling thread acts as one of the workers
+        int workerCount = Math.max(1, Math.min(maxConcurrency, size));
+        List<ForkedRequest<Void>> forkedWorkers = new ArrayList<>();
+        for (int i = 1; i < workerCount; i++) {
+            forkedWorkers.add(ForkedRequest.fork(worker, executor));
+        }
+
+        worker.call();
+
+        // Wait for the other workers to finish their last request
+        for (ForkedRequest<Void> forkedWorker : forkedWorkers) {
+            forkedWorker.join();
+        }
+
+        if (failure.get() != null) throw rethrow(failure.get());
+
+        @SuppressWarnings("unchecked")
+        List<R> resultList = (List<R>) Arrays.asList(results);
+        return resultList;
+    }
+
+    /**
+     * Unwraps the cause of a CompletionException so that it can be rethrown
+     *
+     * @param ex The CompletionException
+     * @return The IOException that caused the CompletionException
+     * @throws RuntimeException If the cause is a RuntimeException or an Error
+     */
+    public static IOException unwrap(CompletionException ex) {
+        // Subclasses (i.e. GameRetrievalException) are thrown as is, so their message is not lost
+        if (ex.getClass() != CompletionException.class) throw ex;
+
+        Throwable cause = ex.getCause() == null ? ex : ex.getCause();
+        return rethrow(cause);
+    }
+
+    /**
+     * Converts a throwable into an IOException, or throws it if it is unchecked
+     *
+     * @param throwable The throwable
+     * @return The throwable as an IOException
+     */
+    private static IOException rethrow(Throwable throwable) {
+        if (throwable instanceof IOException ioException) return ioException;
+        if (throwable instanceof UncheckedIOException uncheckedIOException) return uncheckedIOException.getCause();
+        if (throwable instanceof RuntimeException runtimeException) throw runtimeException;
+        if (throwable instanceof Error error) throw error;
+        return new IOException(throwable);
+    }
+
+}
@@ -0,0 +1,194 @@
+package io.github.theforbiddenai.gamefinder.utilities.concurrent;
+
+import lombok.Getter;
+import okhttp3.Call;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Holds the state shared by every request made for a single retrieval: its deadline and the HTTP calls it has made.
+ * The context is bound to the thread running the retrieval, and {@link Bulkhead} carries it over to every task the
+ * retrieval submits, so scrapers and web scrapers pick it up without it being passed through every method.
+ * Cancelling the context cancels every call it has made, and every call made afterward
+ *
+ * @author TheForbiddenAi
+ */
+public class RetrievalContext {
+
+    private static final ThreadLocal<RetrievalContext> CURRENT = new ThreadLocal<>();
+
+    // The instant every call must finish by, or null if there is no deadline
+    @Getter
+    private volatile Instant deadline;
+
+    private final Set<Call> calls = ConcurrentHashMap.newKeySet();
+    private final List<Runnable> cancelListeners = new ArrayList<>();
+    private volatile boolean cancelled;
+
+    /**
+     * @param deadline The instant every call must finish by, or null if there is no deadline
+     */
+    public RetrievalContext(Instant deadline) {
+        this.deadline = deadline;
+    }
+
+    /**
+     * @return The context bound to the calling thread, or null if the thread is not running a retrieval
+     */
+    public static RetrievalContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds the calling thread's context (if any) to a task, so that the task runs with the same context regardless
+     * of the thread it runs on
+     *
+     * @param task The task being submitted
+     * @return The task bound to the calling thread's context, or the task itself if there is no context
+     */
+    public static Runnable propagate(Runnable task) {
+        RetrievalContext context = current();
+        return context == null ? task : context.wrap(task);
+    }
+
+    /**
+     * Binds this context to a task
+     *
+     * @param task The task being bound
+     * @return A task that runs with this context bound to its thread
+     */
+    public Runnable wrap(Runnable task) {
+        return () -> {
+            RetrievalContext previous = CURRENT.get();
+            CURRENT.set(this);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * Binds this context to a supplier
+     *
+     * @param supplier The supplier being bound
+     * @param <T>      The type of the result
+     * @return A supplier that runs with this context bound to its thread
+     */
+    public <T> Supplier<T> wrap(Supplier<T> supplier) {
+        return () -> {
+            RetrievalContext previous = CURRENT.get();
+            CURRENT.set(this);
+            try {
+                return supplier.get();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * Pushes the deadline back. Calls that have already been registered keep the deadline they were registered with
+     *
+     * @param deadline The new deadline, or null to remove the deadline. It is ignored if it is earlier than the current one
+     */
+    public synchronized void extendDeadline(Instant deadline) {
+        if (this.deadline == null) return;
+        if (deadline == null || deadline.isAfter(this.deadline)) this.deadline = deadline;
+    }
+
+    /**
+     * Registers a call made for this retrieval. The call's timeout is shortened so that it can not outlive the
+     * deadline, and the call is cancelled if the context has already been cancelled
+     *
+     * @param call The call being registered
+     */
+    public void register(Call call) {
+        calls.add(call);
+
+        Instant deadline = this.deadline;
+        if (deadline != null) {
+            long remainingNanos = getRemaining().toNanos();
+            // A deadline that has already passed leaves no time for the call
+            if (remainingNanos <= 0) {
+                call.cancel();
+                return;
+            }
+            call.timeout().deadlineNanoTime(System.nanoTime() + remainingNanos);
+        }
+
+        // The context may have been cancelled while the call was being registered
+        if (cancelled) call.cancel();
+    }
+
+    /**
+     * Cancels every call made for this retrieval. Calls that are registered afterward are cancelled immediately
+     */
+    public void cancel() {
+        List<Runnable> listeners;
+
+        synchronized (this) {
+            if (cancelled) return;
+            cancelled = true;
+
+            listeners = new ArrayList<>(cancelListeners);
+            cancelListeners.clear();
+        }
+
+        calls.forEach(Call::cancel);
+        listeners.forEach(Runnable::run);
+    }
+
+    /**
+     * Registers a listener that is run once this context is cancelled. If it already has been, the listener is run immediately
+     *
+     * @param listener The listener being registered
+     */
+    public void onCancel(Runnable listener) {
+        synchronized (this) {
+            if (!cancelled) {
+                cancelListeners.add(listener);
+                return;
+            }
+        }
+
+        listener.run();
+    }
+
+    /**
+     * @return Whether this context has been cancelled
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * @return The time left until the deadline (negative if it has passed), or a very long duration if there is no deadline
+     */
+    public Duration getRemaining() {
+        Instant deadline = this.deadline;
+        if (deadline == null) return Duration.ofNanos(Long.MAX_VALUE);
+        return Duration.between(Instant.now(), deadline);
+    }
+
+    /**
+     * @return The time left until the deadline in milliseconds, never less than 0
+     */
+    public long getRemainingMillis() {
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(getRemaining().toNanos()));
+    }
+
+    private static void restore(RetrievalContext previous) {
+        if (previous == null) CURRENT.remove();
+        else CURRENT.set(previous);
+    }
+
+}
@@ -0,0 +1,132 @@
+package io.github.theforbiddenai.gamefinder.utilities.concurrent;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent tasks with the same key. While a task is in flight, callers with the same key attach to it and
+ * share its result instead of starting a duplicate. The task runs under its own {@link RetrievalContext}, which is only
+ * cancelled once every caller attached to it has cancelled their own context. Its deadline is the latest deadline of
+ * the callers attached to it (none if any caller has no deadline), so the task is not cut short for a caller still waiting on it
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the results
+ * @author TheForbiddenAi
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, Flight<V>> flights = new ConcurrentHashMap<>();
+
+    /**
+     * Attaches to the in-flight task with the given key, or starts the task if there is none
+     *
+     * @param key           The key of the task
+     * @param callerContext The caller's context. If it is cancelled, the caller detaches from the task
+     * @param task          Starts the task under the given context. This is only called if no task with the key is in flight
+     * @return A CompletableFuture containing the result of the task
+     */
+    public CompletableFuture<V> execute(K key, RetrievalContext callerContext, Function<RetrievalContext, CompletableFuture<V>> task) {
+        while (true) {
+            Flight<V> flight = flights.computeIfAbsent(key, k -> new Flight<>(callerContext.getDeadline()));
+
+            // Every caller of this flight cancelled, but it has not been removed yet
+            if (!flight.attach(callerContext)) {
+                flights.remove(key, flight);
+                continue;
+            }
+
+            if (flight.claimStart()) {
+                flight.start(task);
+                flight.future.whenComplete((result, throwable) -> flights.remove(key, flight));
+            }
+
+            callerContext.onCancel(flight::detach);
+
+            // Each caller gets its own copy, so that a caller cancelling its future does not affect the other callers
+            return flight.future.copy();
+        }
+    }
+
+    /**
+     * @return The number of tasks that are in flight
+     */
+    public int getInFlightCount() {
+        return flights.size();
+    }
+
+    /**
+     * A task that one or more callers are attached to
+     *
+     * @param <V> The type of the result
+     */
+    private static class Flight<V> {
+
+        private final RetrievalContext context;
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+
+        private int attachedCallers;
+        private boolean started;
+
+        /**
+         * @param deadline The deadline of the first caller, or null if it has none
+         */
+        private Flight(Instant deadline) {
+            this.context = new RetrievalContext(deadline);
+        }
+
+        /**
+         * Attaches a caller, pushing the flight's deadline back to the caller's if it is later
+         *
+         * @param callerContext The caller's context
+         * @return Whether the caller was attached. This fails if every previous caller has cancelled
+         */
+        private synchronized boolean attach(RetrievalContext callerContext) {
+            if (context.isCancelled()) return false;
+
+            context.extendDeadline(callerContext.getDeadline());
+            attachedCallers++;
+            return true;
+        }
+
+        /**
+         * Detaches a caller. Once every caller has detached, the task is cancelled
+         */
+        private void detach() {
+            synchronized (this) {
+                if (--attachedCallers > 0) return;
+            }
+            context.cancel();
+        }
+
+        /**
+         * @return Whether the calling thread should start the task. Only the first caller to ask starts it
+         */
+        private synchronized boolean claimStart() {
+            if (started) return false;
+
+            started = true;
+            return true;
+        }
+
+        /**
+         * Starts the task and relays its result to the flight's future
+         *
+         * @param task Starts the task under the given context
+         */
+        private void start(Function<RetrievalContext, CompletableFuture<V>> task) {
+            try {
+                task.apply(context).whenComplete((result, throwable) -> {
+                    if (throwable != null) future.completeExceptionally(throwable);
+                    else future.complete(result);
+                });
+            } catch (RuntimeException ex) {
+                future.completeExceptionally(ex);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,61 @@
+package io.github.theforbiddenai.gamefinder.utilities.concurrent;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Provides access to virtual threads. GameFinder is compiled for Java 17, so virtual threads are looked up at runtime
+ * and are only available when GameFinder is run on Java 21 or newer
+ *
+ * @author TheForbiddenAi
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class VirtualThreads {
+
+    private static final MethodHandle NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findVirtualThreadPerTaskExecutor();
+
+    /**
+     * @return Whether the running JVM supports virtual threads
+     */
+    public static boolean isSupported() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Creates an executor service that runs each task on a new virtual thread
+     *
+     * @return The executor service
+     * @throws UnsupportedOperationException If the running JVM does not support virtual threads
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (!isSupported()) throw new UnsupportedOperationException("Virtual threads require Java 21 or newer");
+
+        try {
+            return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invokeExact();
+        } catch (Throwable ex) {
+            throw new IllegalStateException("Unable to create a virtual thread executor", ex);
+        }
+    }
+
+    /**
+     * @return A handle to Executors.newVirtualThreadPerTaskExecutor, or null if it does not exist
+     */
+    private static MethodHandle findVirtualThreadPerTaskExecutor() {
+        try {
+            return MethodHandles.publicLookup().findStatic(
+                    Executors.class,
+                    "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class)
+            );
+        } catch (NoSuchMethodException | IllegalAccessException ex) {
+            return null;
+        }
+    }
+
+}
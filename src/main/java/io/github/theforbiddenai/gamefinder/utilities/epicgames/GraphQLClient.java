@@ -4,11 +4,16 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.github.theforbiddenai.gamefinder.GameFinderConfiguration;
+import io.github.theforbiddenai.gamefinder.utilities.http.HttpTransport;
+import io.github.theforbiddenai.gamefinder.utilities.http.OkHttpTransport;
+import io.github.theforbiddenai.gamefinder.utilities.json.FilteredJsonReader;
 import okhttp3.*;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.Predicate;
 
 public class GraphQLClient {
 
@@ -19,18 +24,23 @@ public class GraphQLClient {
     private static final MediaType JSON = MediaType.get("application/json");
     private static final String EPIC_GAMES_GRAPHQL_URL = "https://graphql.epicgames.com/graphql";
 
-    private final OkHttpClient httpClient;
+    private final HttpTransport transport;
 
     private final ObjectMapper mapper;
 
     public GraphQLClient(ObjectMapper mapper) {
         this.mapper = mapper;
-        this.httpClient = new OkHttpClient();
+        this.transport = HttpTransport.configured();
     }
 
     public GraphQLClient(ObjectMapper mapper, OkHttpClient httpClient) {
         this.mapper = mapper;
-        this.httpClient = httpClient;
+        this.transport = new OkHttpTransport(httpClient);
+    }
+
+    public GraphQLClient(ObjectMapper mapper, HttpTransport transport) {
+        this.mapper = mapper;
+        this.transport = transport;
     }
 
     /**
@@ -42,6 +52,22 @@ public class GraphQLClient {
      * @throws IOException If the query fails for any reason
      */
     public JsonNode executeQuery(String queryString, Map<String, Object> queryVariables) throws IOException {
+        return executeQuery(queryString, queryVariables, List.of(), null);
+    }
+
+    /**
+     * Executes a query on the EpicGames GraphQL API. The response is streamed, and only the elements of the array
+     * found at arrayPath that pass the elementFilter are kept
+     *
+     * @param queryString    The data being requested from the GraphQL API
+     * @param queryVariables The values of the variables defined in the queryString
+     * @param arrayPath      The field names leading to the array being filtered (i.e. ["data", "Catalog", "searchStore", "elements"])
+     * @param elementFilter  Decides which array elements are kept
+     * @return All the information found in the form of a JsonNode
+     * @throws IOException If the query fails for any reason
+     */
+    public JsonNode executeQuery(String queryString, Map<String, Object> queryVariables, List<String> arrayPath,
+                                 Predicate<JsonNode> elementFilter) throws IOException {
 
         Locale locale = CONFIG.getLocale();
         String localeString = locale.toString().replace("_", "-");
@@ -56,17 +82,19 @@ public class GraphQLClient {
         requestBodyNode.put("query", queryString);
         requestBodyNode.put("variables", mapper.writeValueAsString(queryVariables));
 
-        return executeHttpRequest(requestBodyNode);
+        return executeHttpRequest(requestBodyNode, arrayPath, elementFilter);
     }
 
     /**
      * Executes a POST request on the GraphQL API endpoint with a given requestBody
      *
      * @param requestBodyNode The information being requested
+     * @param arrayPath       The field names leading to the array being filtered
+     * @param elementFilter   Decides which array elements are kept. If this is null, the whole response is kept
      * @return The information return from the GraphQL API
      * @throws IOException If the HTTP request fails
      */
-    private JsonNode executeHttpRequest(ObjectNode requestBodyNode) throws IOException {
+    private JsonNode executeHttpRequest(ObjectNode requestBodyNode, List<String> arrayPath, Predicate<JsonNode> elementFilter) throws IOException {
         // Convert the requestBodyNode to a string and add it to a RequestBody
         RequestBody body = RequestBody.create(mapper.writeValueAsString(requestBodyNode), JSON);
 
@@ -78,12 +106,13 @@ public class GraphQLClient {
                 .build();
 
         // Execute the request
-        try (Response response = httpClient.newCall(request).execute()) {
+        try (Response response = transport.newCall(request).execute()) {
             ResponseBody responseBody = response.body();
             if (!response.isSuccessful() || responseBody == null) return mapper.createObjectNode();
 
-            // Convert the responseBody to a JsonNode
-            return mapper.readTree(responseBody.string());
+            // Parse the responseBody directly from the byte stream instead of copying it into a String first
+            if (elementFilter == null) return mapper.readTree(responseBody.byteStream());
+            return FilteredJsonReader.read(mapper, responseBody.byteStream(), arrayPath, elementFilter);
         }
 
     }
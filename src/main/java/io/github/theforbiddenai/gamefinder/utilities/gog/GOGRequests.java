@@ -2,13 +2,23 @@ package io.github.theforbiddenai.gamefinder.utilities.gog;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import io.github.theforbiddenai.gamefinder.GameFinderConfiguration;
+import io.github.theforbiddenai.gamefinder.domain.Platform;
+import io.github.theforbiddenai.gamefinder.utilities.concurrent.IOCallable;
+import io.github.theforbiddenai.gamefinder.utilities.concurrent.ParallelRequests;
+import io.github.theforbiddenai.gamefinder.utilities.http.HttpTransport;
+import okhttp3.HttpUrl;
 
 import java.io.IOException;
-import java.net.URL;
+import java.util.ArrayList;
 import java.util.Currency;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
 
 /**
  * Responsible for making requests to undocumented GOG API endpoints
@@ -20,18 +30,76 @@ public class GOGRequests {
     private static final GameFinderConfiguration CONFIG = GameFinderConfiguration.getInstance();
 
     private final ObjectMapper mapper;
+    private final HttpTransport transport;
 
     public GOGRequests(ObjectMapper mapper) {
         this.mapper = mapper;
+        this.transport = HttpTransport.configured();
+    }
+
+    public GOGRequests(ObjectMapper mapper, HttpTransport transport) {
+        this.mapper = mapper;
+        this.transport = transport;
     }
 
     /**
-     * Retrieves a list of all games with a 100% discount on GOG
+     * Retrieves a list of all games with a 100% discount on GOG. Every page of the catalog is retrieved and their
+     * products are combined into one JsonNode
      *
      * @return The JsonNode containing the game information
-     * @throws IOException If the URL is malformed or if the mapper is unable to parse the json data
+     * @throws IOException If any of the requests fail or if the mapper is unable to parse the json data
      */
     public Optional<JsonNode> getGameList() throws IOException {
+        Queue<JsonNode> productsNodes = new ConcurrentLinkedQueue<>();
+        getGameList(productsNodes::add);
+
+        if (productsNodes.isEmpty()) return Optional.empty();
+
+        ArrayNode gameList = mapper.createArrayNode();
+        productsNodes.forEach(productsNode -> productsNode.forEach(gameList::add));
+        return Optional.of(gameList);
+    }
+
+    /**
+     * Retrieves all games with a 100% discount on GOG. The first page of the catalog is requested to find out how many
+     * pages there are, then the remaining pages are requested concurrently. Each page's products are passed to the
+     * productsConsumer as soon as that page arrives, so the consumer must be thread-safe. The first page is consumed
+     * alongside the remaining requests, so a consumer that blocks does not hold them back
+     *
+     * @param productsConsumer The consumer that each page's products JsonNode is passed to
+     * @throws IOException If any of the requests fail or if the mapper is unable to parse the json data
+     */
+    public void getGameList(Consumer<JsonNode> productsConsumer) throws IOException {
+        JsonNode firstPageNode = getGameListPage(1);
+
+        // The catalog returns the total number of pages. If it is missing, assume there is only one page
+        int pageCount = firstPageNode.path("pages").asInt(1);
+
+        List<IOCallable<Void>> pageRequests = new ArrayList<>();
+        pageRequests.add(() -> {
+            acceptProducts(firstPageNode, productsConsumer);
+            return null;
+        });
+
+        for (int page = 2; page <= pageCount; page++) {
+            int pageNumber = page;
+            pageRequests.add(() -> {
+                acceptProducts(getGameListPage(pageNumber), productsConsumer);
+                return null;
+            });
+        }
+
+        ParallelRequests.executeAll(pageRequests, CONFIG.getMaxConcurrentPageRequests(), CONFIG.getPlatformExecutor(Platform.GOG));
+    }
+
+    /**
+     * Retrieves a page of the list of all games with a 100% discount on GOG
+     *
+     * @param page The page number (starting at 1)
+     * @return The JsonNode containing the page's information
+     * @throws IOException If the request fails or if the mapper is unable to parse the json data
+     */
+    private JsonNode getGameListPage(int page) throws IOException {
         String productTypes = "game,pack";
         productTypes = CONFIG.includeDLCs() ? productTypes + ",dlc,extras" : productTypes;
 
@@ -40,16 +108,26 @@ public class GOGRequests {
                 "&price=between:0,0" +
                 "&discounted=eq:true" +
                 "&productType=in:" + productTypes +
-                "&page=1";
-        return Optional.of(mapper.readTree(new URL(catalogURL)))
-                .map(node -> node.get("products"));
+                "&page=" + page;
+        return transport.getJson(HttpUrl.get(catalogURL), mapper);
+    }
+
+    /**
+     * Passes the products of a catalog page to a consumer if there are any
+     *
+     * @param pageNode         The catalog page
+     * @param productsConsumer The consumer the products are passed to
+     */
+    private void acceptProducts(JsonNode pageNode, Consumer<JsonNode> productsConsumer) {
+        Optional.ofNullable(pageNode.get("products"))
+                .ifPresent(productsConsumer);
     }
 
     /**
      * Gets the json section data for the GOG homepage
      *
      * @return The json data if found
-     * @throws IOException If the URL is malformed or if the mapper is unable to parse the json data
+     * @throws IOException If the request fails or if the mapper is unable to parse the json data
      */
     public Optional<JsonNode> getHomePageSections() throws IOException {
         // I do not believe countryCode/currencyCode are required, but this is the request GOG itself makes
@@ -58,7 +136,7 @@ public class GOGRequests {
         // the slug, excluding the language portion, (i.e. /promo/cool_promo) in hexadecimal. It does NOT work for individual game pages
         String url = "https://sections.gog.com/v1/pages/2f" +
                 getLocaleURLParameters();
-        return Optional.of(mapper.readTree(new URL(url)))
+        return Optional.of(transport.getJson(HttpUrl.get(url), mapper))
                 .map(node -> node.get("sections"));
     }
 
@@ -67,12 +145,12 @@ public class GOGRequests {
      *
      * @param sectionId The id of the section
      * @return The json data if found
-     * @throws IOException If the URL is malformed or if the mapper is unable to parse the json data
+     * @throws IOException If the request fails or if the mapper is unable to parse the json data
      */
     public Optional<JsonNode> getHomePageSection(String sectionId) throws IOException {
         String url = "https://sections.gog.com/v1/pages/2f/sections/" + sectionId +
                 getLocaleURLParameters();
-        return Optional.of(mapper.readTree(new URL(url)))
+        return Optional.of(transport.getJson(HttpUrl.get(url), mapper))
                 .map(node -> node.get("properties"));
     }
 
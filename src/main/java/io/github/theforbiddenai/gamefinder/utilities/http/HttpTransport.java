@@ -0,0 +1,117 @@
+package io.github.theforbiddenai.gamefinder.utilities.http;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.theforbiddenai.gamefinder.GameFinderConfiguration;
+import io.github.theforbiddenai.gamefinder.utilities.json.FilteredJsonReader;
+import okhttp3.Call;
+import okhttp3.HttpUrl;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Defines how GameFinder sends HTTP requests. Every request made by GameFinder goes through an HttpTransport,
+ * which allows connection pooling, compression, timeouts, etc. to be handled in one place
+ *
+ * @author TheForbiddenAi
+ */
+@FunctionalInterface
+public interface HttpTransport {
+
+    /**
+     * Prepares a request to be executed
+     *
+     * @param request The request being executed
+     * @return A call that can be executed synchronously or asynchronously
+     */
+    Call newCall(Request request);
+
+    /**
+     * Checks if responses are stored in an HTTP cache. A cache only stores a response once its body has been read to
+     * the end, so callers that stop reading early should drain the body when this is true
+     *
+     * @return Whether responses are cached
+     */
+    default boolean hasCache() {
+        return false;
+    }
+
+    /**
+     * Sends a GET request to a url and parses the response body as json
+     *
+     * @param url    The url the request is being sent to
+     * @param mapper The ObjectMapper used to parse the response body
+     * @return The parsed response body
+     * @throws IOException If the request fails, the response is not successful, or the mapper is unable to parse the json data
+     */
+    default JsonNode getJson(HttpUrl url, ObjectMapper mapper) throws IOException {
+        try (ResponseBody responseBody = getJsonBody(url)) {
+            return mapper.readTree(responseBody.byteStream());
+        }
+    }
+
+    /**
+     * Sends a GET request to a url and streams the response body through a {@link FilteredJsonReader}
+     *
+     * @param url           The url the request is being sent to
+     * @param mapper        The ObjectMapper used to parse the response body
+     * @param arrayPath     The field names leading to the array being filtered
+     * @param elementFilter Decides which array elements are kept
+     * @return The parsed response body, only containing the array elements that passed the filter
+     * @throws IOException If the request fails, the response is not successful, or the mapper is unable to parse the json data
+     */
+    default JsonNode getJson(HttpUrl url, ObjectMapper mapper, List<String> arrayPath, Predicate<JsonNode> elementFilter) throws IOException {
+        try (ResponseBody responseBody = getJsonBody(url)) {
+            return FilteredJsonReader.read(mapper, responseBody.byteStream(), arrayPath, elementFilter);
+        }
+    }
+
+    /**
+     * Sends a GET request to a url that responds with json
+     *
+     * @param url The url the request is being sent to
+     * @return The response body. This must be closed by the caller
+     * @throws IOException If the request fails or the response is not successful
+     */
+    private ResponseBody getJsonBody(HttpUrl url) throws IOException {
+        Request request = new Request.Builder()
+                .url(url)
+                .header("Accept", "application/json")
+                .build();
+
+        Response response = newCall(request).execute();
+        ResponseBody responseBody = response.body();
+        if (!response.isSuccessful() || responseBody == null) {
+            response.close();
+            throw new IOException("Request to " + url + " failed with status code " + response.code());
+        }
+
+        return responseBody;
+    }
+
+    /**
+     * Gets a transport that always delegates to {@link GameFinderConfiguration#getHttpTransport()}. This allows the
+     * transport to be swapped out in the configuration after the scrapers have been created
+     *
+     * @return The configured HttpTransport
+     */
+    static HttpTransport configured() {
+        return new HttpTransport() {
+            @Override
+            public Call newCall(Request request) {
+                return GameFinderConfiguration.getInstance().getHttpTransport().newCall(request);
+            }
+
+            @Override
+            public boolean hasCache() {
+                return GameFinderConfiguration.getInstance().getHttpTransport().hasCache();
+            }
+        };
+    }
+
+}
@@ -0,0 +1,207 @@
+package io.github.theforbiddenai.gamefinder.utilities.http;
+
+import io.github.theforbiddenai.gamefinder.GameFinderConfiguration;
+import io.github.theforbiddenai.gamefinder.callback.HttpMetricsCallback;
+import io.github.theforbiddenai.gamefinder.domain.HttpRequestMetrics;
+import io.github.theforbiddenai.gamefinder.utilities.concurrent.RetrievalContext;
+import lombok.Getter;
+import okhttp3.Cache;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.EventListener;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.brotli.BrotliInterceptor;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The default {@link HttpTransport}. All requests share a single OkHttpClient, meaning they share one connection pool
+ * and one dispatcher. This allows TLS connections to be reused between requests (and polls) instead of a new handshake
+ * being made for every request
+ *
+ * @author TheForbiddenAi
+ */
+public class OkHttpTransport implements HttpTransport {
+
+    private static final int MAX_IDLE_CONNECTIONS = 16;
+    private static final int KEEP_ALIVE_MINUTES = 5;
+    private static final int MAX_REQUESTS_PER_HOST = 16;
+
+    @Getter
+    private final OkHttpClient httpClient;
+
+    public OkHttpTransport() {
+        // Asynchronous calls are queued on the dispatcher. Every store page of a platform is on the same host,
+        // so OkHttp's default of 5 requests per host would throttle asynchronous web scraping
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequestsPerHost(MAX_REQUESTS_PER_HOST);
+
+        OkHttpClient.Builder builder = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                // HTTP/2 is used whenever the host supports it (negotiated via ALPN), otherwise HTTP/1.1 is used
+                .protocols(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                .connectionPool(new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_MINUTES, TimeUnit.MINUTES))
+                // Advertises brotli and gzip support and transparently decompresses the response body
+                .addInterceptor(BrotliInterceptor.INSTANCE)
+                .addInterceptor(OkHttpTransport::applyHostTimeouts)
+                // Retries are made outside the rate limiter, so every attempt is rate limited
+                .addInterceptor(new RetryInterceptor())
+                // Throttled requests wait here, before a connection is acquired, so that they do not tie up pooled connections
+                .addInterceptor(new RateLimitInterceptor())
+                .eventListenerFactory(call -> new MetricsEventListener());
+
+        // Cached responses are revalidated with If-None-Match/If-Modified-Since, and a 304 response is served from disk.
+        // Only GET responses that are read to the end are stored, so GraphQL queries (POST) are not cached
+        GameFinderConfiguration config = GameFinderConfiguration.getInstance();
+        if (config.getHttpCacheDirectory() != null) {
+            builder.cache(new Cache(config.getHttpCacheDirectory().toFile(), config.getHttpCacheMaxSize()));
+        }
+
+        this.httpClient = builder.build();
+    }
+
+    /**
+     * Wraps an already existing OkHttpClient. The client is used as is, so none of the defaults
+     * set by {@link #OkHttpTransport()} are applied
+     *
+     * @param httpClient The OkHttpClient used to execute requests
+     */
+    public OkHttpTransport(OkHttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    /**
+     * Prepares a request to be executed. If the calling thread is running a retrieval, the call is registered with its
+     * {@link RetrievalContext}, so that the call is bound by the retrieval's deadline and is cancelled along with it
+     *
+     * @param request The request being executed
+     * @return A call that can be executed synchronously or asynchronously
+     */
+    @Override
+    public Call newCall(Request request) {
+        Call call = httpClient.newCall(request);
+
+        RetrievalContext context = RetrievalContext.current();
+        if (context != null) context.register(call);
+
+        return call;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasCache() {
+        return httpClient.cache() != null;
+    }
+
+    /**
+     * Applies the timeout for the host of a request. If there is no host specific timeout
+     * defined in {@link GameFinderConfiguration#getHostTimeouts()}, the default http timeout is used
+     *
+     * @param chain The interceptor chain
+     * @return The response
+     * @throws IOException If the request fails
+     */
+    private static Response applyHostTimeouts(Interceptor.Chain chain) throws IOException {
+        GameFinderConfiguration config = GameFinderConfiguration.getInstance();
+
+        String host = chain.request().url().host();
+        int timeoutMillis = (int) config.getHostTimeouts()
+                .getOrDefault(host, config.getHttpTimeout())
+                .toMillis();
+
+        return chain.withConnectTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .withReadTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .withWriteTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .proceed(chain.request());
+    }
+
+    /**
+     * Records the number of bytes sent/received and the latency of a call, and reports them to
+     * {@link GameFinderConfiguration#getHttpMetricsCallback()} once the call is finished.
+     * A new instance is created for each call
+     */
+    private static class MetricsEventListener extends EventListener {
+
+        private long callStartNanos;
+        private long bytesSent;
+        private long bytesReceived;
+        private int statusCode = -1;
+        private String protocol;
+        private boolean newConnection;
+
+        @Override
+        public void callStart(Call call) {
+            callStartNanos = System.nanoTime();
+        }
+
+        @Override
+        public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+            newConnection = true;
+        }
+
+        @Override
+        public void connectionAcquired(Call call, Connection connection) {
+            protocol = connection.protocol().toString();
+        }
+
+        @Override
+        public void requestBodyEnd(Call call, long byteCount) {
+            bytesSent += byteCount;
+        }
+
+        @Override
+        public void responseHeadersEnd(Call call, Response response) {
+            statusCode = response.code();
+        }
+
+        @Override
+        public void responseBodyEnd(Call call, long byteCount) {
+            bytesReceived += byteCount;
+        }
+
+        @Override
+        public void callEnd(Call call) {
+            report(call, false);
+        }
+
+        @Override
+        public void callFailed(Call call, IOException ioe) {
+            report(call, true);
+        }
+
+        private void report(Call call, boolean failed) {
+            HttpMetricsCallback callback = GameFinderConfiguration.getInstance().getHttpMetricsCallback();
+            if (callback == null) return;
+
+            HttpUrl url = call.request().url();
+
+            callback.recordRequest(HttpRequestMetrics.builder()
+                    .method(call.request().method())
+                    .url(url.toString())
+                    .host(url.host())
+                    .statusCode(statusCode)
+                    .protocol(protocol)
+                    .bytesSent(bytesSent)
+                    .bytesReceived(bytesReceived)
+                    .latency(Duration.ofNanos(System.nanoTime() - callStartNanos))
+                    .newConnection(newConnection)
+                    .failed(failed)
+                    .build());
+        }
+    }
+
+}
@@ -0,0 +1,191 @@
+package io.github.theforbiddenai.gamefinder.utilities.http;
+
+import io.github.theforbiddenai.gamefinder.GameFinderConfiguration;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throttles requests with a token bucket per host. The rate of a host is taken from
+ * {@link GameFinderConfiguration#getHostRateLimits()}, falling back to {@link GameFinderConfiguration#getHttpRateLimit()}.
+ * When a host responds with 429 or 503, its requests are paused for the Retry-After duration (or an exponential backoff
+ * if there is none) and its rate is halved. The rate is slowly restored as requests succeed again
+ *
+ * @author TheForbiddenAi
+ */
+public class RateLimitInterceptor implements Interceptor {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int SERVICE_UNAVAILABLE = 503;
+
+    private static final long BASE_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long MAX_BACKOFF_NANOS = TimeUnit.MINUTES.toNanos(1);
+    // Prevents a bogus Retry-After header from pausing a host indefinitely
+    private static final long MAX_RETRY_AFTER_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    private final Map<String, HostBucket> hostBuckets = new ConcurrentHashMap<>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        GameFinderConfiguration config = GameFinderConfiguration.getInstance();
+
+        String host = chain.request().url().host();
+        double requestsPerSecond = config.getHostRateLimits().getOrDefault(host, config.getHttpRateLimit());
+
+        // A rate of 0 or less disables rate limiting for the host
+        if (requestsPerSecond <= 0) return chain.proceed(chain.request());
+
+        HostBucket hostBucket = hostBuckets.computeIfAbsent(host, key -> new HostBucket());
+        waitForPermit(chain, hostBucket.reserve(requestsPerSecond, System.nanoTime()));
+
+        Response response = chain.proceed(chain.request());
+
+        if (response.code() == TOO_MANY_REQUESTS || response.code() == SERVICE_UNAVAILABLE) {
+            hostBucket.onThrottled(getRetryAfterNanos(response), System.nanoTime());
+        } else if (response.isSuccessful()) {
+            hostBucket.onSuccess();
+        }
+
+        return response;
+    }
+
+    /**
+     * Blocks the current thread until a request is allowed to be sent
+     *
+     * @param chain     The interceptor chain
+     * @param waitNanos How long to wait
+     * @throws IOException If the thread is interrupted or the call is canceled while waiting
+     */
+    private void waitForPermit(Chain chain, long waitNanos) throws IOException {
+        if (waitNanos <= 0) return;
+
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the rate limit of " + chain.request().url().host());
+        }
+
+        if (chain.call().isCanceled()) throw new IOException("Canceled");
+    }
+
+    /**
+     * Reads the Retry-After header of a response. The header is either a number of seconds or an HTTP date
+     *
+     * @param response The response
+     * @return The number of nanoseconds to wait, or -1 if the header is missing or invalid
+     */
+    static long getRetryAfterNanos(Response response) {
+        String retryAfter = response.header("Retry-After");
+        if (retryAfter == null || retryAfter.isBlank()) return -1;
+
+        try {
+            long seconds = Long.parseLong(retryAfter.strip());
+            return Math.min(MAX_RETRY_AFTER_NANOS, TimeUnit.SECONDS.toNanos(Math.max(0, seconds)));
+        } catch (NumberFormatException ignored) {
+            // Not a number of seconds, so it must be an HTTP date
+        }
+
+        try {
+            ZonedDateTime retryDate = ZonedDateTime.parse(retryAfter.strip(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            long nanos = Duration.between(ZonedDateTime.now(retryDate.getZone()), retryDate).toNanos();
+            return Math.min(MAX_RETRY_AFTER_NANOS, Math.max(0, nanos));
+        } catch (DateTimeParseException | ArithmeticException ex) {
+            return -1;
+        }
+    }
+
+    /**
+     * The token bucket for a single host. Requests that arrive while the bucket is empty reserve a future token,
+     * so waiting requests are spaced out at the host's rate instead of all being released at once
+     */
+    static class HostBucket {
+
+        private static final double MIN_RATE_MULTIPLIER = 0.1;
+        private static final double RATE_RECOVERY_STEP = 0.05;
+
+        private boolean initialized;
+        private double tokens;
+        private long lastRefillNanos;
+
+        // Lowered every time the host throttles a request and raised every time a request succeeds
+        private double rateMultiplier = 1;
+        private long pausedUntilNanos;
+        private int consecutiveThrottles;
+
+        /**
+         * Takes a token from the bucket
+         *
+         * @param requestsPerSecond The configured rate of the host
+         * @param nowNanos          The current time
+         * @return How long the request must wait before it is sent
+         */
+        synchronized long reserve(double requestsPerSecond, long nowNanos) {
+            double rate = requestsPerSecond * rateMultiplier;
+            // Allows a burst of up to one second's worth of requests
+            double capacity = Math.max(1, rate);
+
+            if (!initialized) {
+                initialized = true;
+                tokens = capacity;
+                lastRefillNanos = nowNanos;
+            }
+
+            // Refill the bucket with the tokens earned since the last refill. No tokens are earned while the host is paused
+            long elapsedNanos = Math.max(0, nowNanos - lastRefillNanos);
+            tokens = Math.min(capacity, tokens + elapsedNanos * rate / TimeUnit.SECONDS.toNanos(1));
+            lastRefillNanos = Math.max(lastRefillNanos, nowNanos);
+
+            tokens--;
+
+            long tokenWaitNanos = tokens >= 0 ? 0 : (long) (-tokens / rate * TimeUnit.SECONDS.toNanos(1));
+            long pauseNanos = Math.max(0, pausedUntilNanos - nowNanos);
+
+            return pauseNanos + tokenWaitNanos;
+        }
+
+        /**
+         * Pauses the host and lowers its rate after it throttles a request
+         *
+         * @param retryAfterNanos The Retry-After duration sent by the host, or -1 if there was none
+         * @param nowNanos        The current time
+         */
+        synchronized void onThrottled(long retryAfterNanos, long nowNanos) {
+            consecutiveThrottles++;
+            rateMultiplier = Math.max(MIN_RATE_MULTIPLIER, rateMultiplier / 2);
+
+            // Without a Retry-After header, the pause doubles with every consecutive throttled request
+            long pauseNanos = retryAfterNanos >= 0
+                    ? retryAfterNanos
+                    : Math.min(MAX_BACKOFF_NANOS, BASE_BACKOFF_NANOS << Math.min(consecutiveThrottles - 1, 6));
+
+            pausedUntilNanos = Math.max(pausedUntilNanos, nowNanos + pauseNanos);
+
+            // The bucket is emptied and stops refilling until the pause ends, so requests are then spaced out at the lowered rate
+            tokens = 0;
+            lastRefillNanos = Math.max(lastRefillNanos, pausedUntilNanos);
+        }
+
+        /**
+         * Gradually restores the host's rate after a successful request
+         */
+        synchronized void onSuccess() {
+            consecutiveThrottles = 0;
+            rateMultiplier = Math.min(1, rateMultiplier + RATE_RECOVERY_STEP);
+        }
+
+    }
+
+}
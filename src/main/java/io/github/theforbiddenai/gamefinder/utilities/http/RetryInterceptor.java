@@ -0,0 +1,85 @@
+package io.github.theforbiddenai.gamefinder.utilities.http;
+
+import io.github.theforbiddenai.gamefinder.GameFinderConfiguration;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retries requests that fail with an IOException or a transient status code (408, 429, 500, 502, 503, 504).
+ * Up to {@link GameFinderConfiguration#getMaxRetries()} retries are made, and the delay before each retry is a random
+ * duration between 0 and an exponentially growing cap (full jitter), so that failed requests do not retry in lockstep
+ *
+ * @author TheForbiddenAi
+ */
+public class RetryInterceptor implements Interceptor {
+
+    private static final Set<Integer> RETRYABLE_STATUS_CODES = Set.of(408, 429, 500, 502, 503, 504);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        GameFinderConfiguration config = GameFinderConfiguration.getInstance();
+        int maxRetries = Math.max(0, config.getMaxRetries());
+
+        for (int attempt = 0; ; attempt++) {
+            boolean isLastAttempt = attempt >= maxRetries;
+
+            try {
+                Response response = chain.proceed(chain.request());
+                if (isLastAttempt || !RETRYABLE_STATUS_CODES.contains(response.code())) return response;
+
+                // The response has to be closed before the request can be sent again
+                response.close();
+            } catch (IOException ex) {
+                if (isLastAttempt || chain.call().isCanceled()) throw ex;
+            }
+
+            sleep(chain, getBackoffNanos(config, attempt));
+        }
+    }
+
+    /**
+     * Gets the delay before a retry
+     *
+     * @param config  The configuration containing the base and max retry delays
+     * @param attempt The number of the attempt that failed, starting at 0
+     * @return A random delay between 0 and min(retryMaxDelay, retryBaseDelay * 2^attempt)
+     */
+    static long getBackoffNanos(GameFinderConfiguration config, int attempt) {
+        long baseNanos = Math.max(1, config.getRetryBaseDelay().toNanos());
+        long maxNanos = Math.max(baseNanos, config.getRetryMaxDelay().toNanos());
+
+        // Shifting more than 30 times would overflow for any reasonable base delay
+        long capNanos = Math.min(maxNanos, baseNanos << Math.min(attempt, 30));
+        if (capNanos < 0) capNanos = maxNanos;
+
+        return ThreadLocalRandom.current().nextLong(capNanos + 1);
+    }
+
+    /**
+     * Blocks the current thread before a retry
+     *
+     * @param chain The interceptor chain
+     * @param nanos How long to wait
+     * @throws IOException If the thread is interrupted or the call is canceled while waiting
+     */
+    private void sleep(Chain chain, long nanos) throws IOException {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry " + chain.request().url());
+        }
+
+        if (chain.call().isCanceled()) throw new IOException("Canceled");
+    }
+
+}
@@ -0,0 +1,110 @@
+package io.github.theforbiddenai.gamefinder.utilities.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Reads json directly from a byte stream while filtering the elements of one array inside it. The elements of the
+ * filtered array are read one at a time, and only the elements that pass the filter are kept. This means the memory
+ * used scales with the number of kept elements rather than the size of the response
+ *
+ * @author TheForbiddenAi
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class FilteredJsonReader {
+
+    /**
+     * Reads a json document, filtering the elements of the array found at arrayPath.
+     * Everything outside the filtered array is read as is
+     *
+     * @param mapper        The ObjectMapper used to parse the json data
+     * @param inputStream   The stream the json data is read from
+     * @param arrayPath     The field names leading to the filtered array (i.e. ["response", "store_items"])
+     * @param elementFilter Decides which array elements are kept
+     * @return The json document with only the array elements that passed the filter, or an empty object if the stream is empty
+     * @throws IOException If the mapper is unable to parse the json data
+     */
+    public static JsonNode read(ObjectMapper mapper, InputStream inputStream, List<String> arrayPath,
+                                Predicate<JsonNode> elementFilter) throws IOException {
+        try (JsonParser parser = mapper.createParser(inputStream)) {
+            if (parser.nextToken() == null) return mapper.createObjectNode();
+            return readValue(mapper, parser, arrayPath, 0, elementFilter);
+        }
+    }
+
+    /**
+     * Reads the value that the parser is currently pointing at. Once this returns, the parser points at the last token of the value
+     *
+     * @param mapper        The ObjectMapper used to parse the json data
+     * @param parser        The parser, pointing at the first token of the value
+     * @param arrayPath     The field names leading to the filtered array
+     * @param depth         How many field names of arrayPath have been matched so far
+     * @param elementFilter Decides which array elements are kept
+     * @return The value that was read
+     * @throws IOException If the mapper is unable to parse the json data
+     */
+    private static JsonNode readValue(ObjectMapper mapper, JsonParser parser, List<String> arrayPath, int depth,
+                                      Predicate<JsonNode> elementFilter) throws IOException {
+        JsonToken token = parser.currentToken();
+
+        // The whole path has been matched, so this is the filtered array
+        if (depth == arrayPath.size()) {
+            if (token != JsonToken.START_ARRAY) return mapper.readTree(parser);
+            return readFilteredArray(mapper, parser, elementFilter);
+        }
+
+        // The path can only continue through objects; anything else is read as is
+        if (token != JsonToken.START_OBJECT) return mapper.readTree(parser);
+
+        ObjectNode objectNode = mapper.createObjectNode();
+        String nextFieldName = arrayPath.get(depth);
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+
+            JsonNode fieldValue = fieldName.equals(nextFieldName)
+                    ? readValue(mapper, parser, arrayPath, depth + 1, elementFilter)
+                    : mapper.readTree(parser);
+
+            objectNode.set(fieldName, fieldValue);
+        }
+
+        return objectNode;
+    }
+
+    /**
+     * Reads an array one element at a time, keeping only the elements that pass the filter
+     *
+     * @param mapper        The ObjectMapper used to parse the json data
+     * @param parser        The parser, pointing at the start of the array
+     * @param elementFilter Decides which array elements are kept
+     * @return An array containing the kept elements
+     * @throws IOException If the mapper is unable to parse the json data
+     */
+    private static ArrayNode readFilteredArray(ObjectMapper mapper, JsonParser parser, Predicate<JsonNode> elementFilter) throws IOException {
+        ArrayNode arrayNode = mapper.createArrayNode();
+
+        JsonToken token;
+        // A null token means the stream ended early. The parser will throw if the json is truncated
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            JsonNode element = mapper.readTree(parser);
+            // Elements that do not pass the filter are unreachable once the next element is read
+            if (element != null && elementFilter.test(element)) arrayNode.add(element);
+        }
+
+        return arrayNode;
+    }
+
+}
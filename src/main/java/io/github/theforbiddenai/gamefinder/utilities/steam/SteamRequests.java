@@ -1,13 +1,26 @@
 package io.github.theforbiddenai.gamefinder.utilities.steam;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import io.github.theforbiddenai.gamefinder.GameFinderConfiguration;
+import io.github.theforbiddenai.gamefinder.domain.Platform;
+import io.github.theforbiddenai.gamefinder.utilities.concurrent.IOCallable;
+import io.github.theforbiddenai.gamefinder.utilities.concurrent.ParallelRequests;
+import io.github.theforbiddenai.gamefinder.utilities.http.HttpTransport;
+import okhttp3.HttpUrl;
 
 import java.io.IOException;
-import java.net.URL;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
 
 /**
  * Responsible for making requests to undocumented Steam API endpoints
@@ -17,50 +30,179 @@ import java.util.Optional;
 public class SteamRequests {
 
     private static final GameFinderConfiguration CONFIG = GameFinderConfiguration.getInstance();
+    private static final Logger LOGGER = Logger.getLogger(SteamRequests.class.getName());
+
+    private static final int SEARCH_PAGE_SIZE = 50;
+    // Prevents an endless loop if Steam ever starts ignoring the start parameter
+    private static final int MAX_SEARCH_PAGES = 100;
+    // The location of the store_items array in the /IStoreBrowseService/GetItems/v1 response
+    private static final List<String> STORE_ITEMS_PATH = List.of("response", "store_items");
 
     private final ObjectMapper mapper;
+    private final HttpTransport transport;
 
     public SteamRequests(ObjectMapper mapper) {
         this.mapper = mapper;
+        this.transport = HttpTransport.configured();
     }
 
-    // TODO: Add ratelimiter to prevent
+    public SteamRequests(ObjectMapper mapper, HttpTransport transport) {
+        this.mapper = mapper;
+        this.transport = transport;
+    }
 
     /**
-     * Gets a json list of games and DLCs ids with a 100% off discount
+     * Gets json lists of games and DLCs ids with a 100% off discount. The search results are paged through until
+     * they are exhausted (or {@value #MAX_SEARCH_PAGES} pages have been requested, which is logged), and each page's
+     * items are passed to the itemsConsumer as soon as that page arrives. The pages are requested one after another on
+     * the calling thread. Results can shift between pages while they are being requested, so an item may be passed more than once
      *
-     * @return An optional containing the json information if found
-     * @throws IOException If the mapper is unable to parse the json information, or if the URL is malformed
+     * @param itemsConsumer The consumer that each page's items JsonNode is passed to
+     * @throws IOException If a request fails, if the mapper is unable to parse the json information,
+     *                     or if the first page does not contain an items list
      */
-    public Optional<JsonNode> getFreeGames() throws IOException {
+    public void getFreeGames(Consumer<JsonNode> itemsConsumer) throws IOException {
+        for (int page = 0; page < MAX_SEARCH_PAGES; page++) {
+            JsonNode itemsNode = getFreeGamesPage(page * SEARCH_PAGE_SIZE).get("items");
+
+            if (itemsNode == null) {
+                // Later pages are allowed to be missing the items list; this just means the results are exhausted
+                if (page == 0) throw new IOException("Unable to retrieve games lists from Steam");
+                return;
+            }
+
+            if (itemsNode.isEmpty()) return;
+            itemsConsumer.accept(itemsNode);
+
+            // A partial page means there are no more results
+            if (itemsNode.size() < SEARCH_PAGE_SIZE) return;
+        }
+
+        LOGGER.warning("Stopped paging through Steam search results after " + MAX_SEARCH_PAGES + " pages. Some free games may be missing");
+    }
+
+    /**
+     * Gets a page of the json list of games and DLCs ids with a 100% off discount
+     *
+     * @param start The index of the first search result on the page
+     * @return The JsonNode containing the page's information
+     * @throws IOException If the request fails or if the mapper is unable to parse the json information
+     */
+    private JsonNode getFreeGamesPage(int start) throws IOException {
         // Testing URL: https://store.steampowered.com/search/results/?ignore_preferences=1&maxprice=5&specials=1&json=1
         // Production URL: https://store.steampowered.com/search/results/?ignore_preferences=1&maxprice=free&specials=1&json=1
-        String url = "https://store.steampowered.com/search/results/?ignore_preferences=1&maxprice=free&specials=1&json=1";
-        return Optional.ofNullable(mapper.readTree(new URL(url)))
-                .map(node -> node.get("items"));
+        HttpUrl url = HttpUrl.get("https://store.steampowered.com/search/results/?ignore_preferences=1&maxprice=free&specials=1&json=1")
+                .newBuilder()
+                .addQueryParameter("start", String.valueOf(start))
+                .addQueryParameter("count", String.valueOf(SEARCH_PAGE_SIZE))
+                .build();
+        return transport.getJson(url, mapper);
     }
 
     /**
-     * Gets json information for apps, packages, and bundles
+     * Gets json information for apps, packages, and bundles. The ids are split into chunks of
+     * {@link GameFinderConfiguration#getSteamItemsChunkSize()}, and the chunks are requested concurrently.
+     * Each response is streamed, and only the store_items that pass the itemFilter are kept
      *
-     * @param jsonIdList The ids of the apps package and bundles in the correct form (i.e. {"appId":123})
-     * @return An optional containing the json information if found
-     * @throws IOException If the mapper is unable to parse the json information, or if the URL is malformed
+     * @param ids        The ids of the apps, packages, and bundles
+     * @param itemFilter Decides which store_items are kept
+     * @return An optional containing the kept store_items of every chunk merged into one json array, if any were kept
+     * @throws IOException If a request fails or if the mapper is unable to parse the json information
      */
-    public Optional<JsonNode> getItems(String jsonIdList) throws IOException {
+    public Optional<JsonNode> getItems(List<StoreItemId> ids, Predicate<JsonNode> itemFilter) throws IOException {
+        if (ids.isEmpty()) return Optional.empty();
+
+        int chunkSize = Math.max(1, CONFIG.getSteamItemsChunkSize());
+
+        // Every chunk's input_json is written into the same buffer. Only the finished payload string is kept per chunk
+        StringWriter inputJsonBuffer = new StringWriter();
+        List<IOCallable<JsonNode>> chunkRequests = new ArrayList<>();
+
+        for (int fromIndex = 0; fromIndex < ids.size(); fromIndex += chunkSize) {
+            List<StoreItemId> chunk = ids.subList(fromIndex, Math.min(fromIndex + chunkSize, ids.size()));
+            String inputJson = writeInputJson(chunk, inputJsonBuffer);
+
+            chunkRequests.add(() -> getItemsChunk(inputJson, itemFilter));
+        }
+
+        List<JsonNode> storeItemsList = ParallelRequests.executeAll(
+                chunkRequests,
+                CONFIG.getMaxConcurrentPageRequests(),
+                CONFIG.getPlatformExecutor(Platform.STEAM)
+        );
+
+        // Merge the store_items from every chunk into one result set
+        ArrayNode mergedStoreItems = mapper.createArrayNode();
+        storeItemsList.stream()
+                .filter(Objects::nonNull)
+                .forEach(storeItems -> storeItems.forEach(mergedStoreItems::add));
+
+        return mergedStoreItems.isEmpty() ? Optional.empty() : Optional.of(mergedStoreItems);
+    }
+
+    /**
+     * Sends a single request to the /IStoreBrowseService/GetItems/v1 endpoint
+     *
+     * @param inputJson  The input_json parameter
+     * @param itemFilter Decides which store_items are kept
+     * @return The kept store_items json array or null if it was not found
+     * @throws IOException If the request fails or if the mapper is unable to parse the json information
+     */
+    private JsonNode getItemsChunk(String inputJson, Predicate<JsonNode> itemFilter) throws IOException {
         // See https://steamapi.xpaw.me/#IStoreBrowseService/GetItems for more info
         // Note: You do not need an access key despite it saying you do. It also does not need to be protobuf encoded
-        Locale locale = CONFIG.getLocale();
-
-        String url = "https://api.steampowered.com/IStoreBrowseService/GetItems/v1" +
-                "?input_json={\"ids\":[" + jsonIdList + "],\"context\":" +
-                "{\"language\":\"" + locale.getDisplayLanguage() + "\",\"country_code\":\"" + locale.getCountry() +
-                "\",\"steam_realm\":1},\"data_request\":{\"include_basic_info\":true,\"include_assets\":true,\"include_screenshots\":true}}";
+        // The input_json parameter is percent-encoded by the HttpUrl builder
+        HttpUrl url = HttpUrl.get("https://api.steampowered.com/IStoreBrowseService/GetItems/v1")
+                .newBuilder()
+                .addQueryParameter("input_json", inputJson)
+                .build();
 
-        return Optional.ofNullable(mapper.readTree(new URL(url)))
+        return Optional.ofNullable(transport.getJson(url, mapper, STORE_ITEMS_PATH, itemFilter))
                 .map(node -> node.get("response"))
-                .map(node -> node.get("store_items"));
+                .map(node -> node.get("store_items"))
+                .orElse(null);
     }
 
+    /**
+     * Writes the input_json parameter for the /IStoreBrowseService/GetItems/v1 endpoint
+     * I.e. {"ids":[{"appId":123}],"context":{...},"data_request":{...}}
+     *
+     * @param ids    The ids being requested
+     * @param buffer The buffer the json is written into. It is cleared before it is written to
+     * @return The input_json string
+     * @throws IOException If the json can not be written
+     */
+    private String writeInputJson(List<StoreItemId> ids, StringWriter buffer) throws IOException {
+        Locale locale = CONFIG.getLocale();
+        buffer.getBuffer().setLength(0);
+
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(buffer)) {
+            generator.writeStartObject();
+
+            generator.writeArrayFieldStart("ids");
+            for (StoreItemId id : ids) {
+                generator.writeStartObject();
+                generator.writeNumberField(id.getType(), id.getId());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+
+            generator.writeObjectFieldStart("context");
+            generator.writeStringField("language", locale.getDisplayLanguage());
+            generator.writeStringField("country_code", locale.getCountry());
+            generator.writeNumberField("steam_realm", 1);
+            generator.writeEndObject();
+
+            generator.writeObjectFieldStart("data_request");
+            generator.writeBooleanField("include_basic_info", true);
+            generator.writeBooleanField("include_assets", true);
+            generator.writeBooleanField("include_screenshots", true);
+            generator.writeEndObject();
+
+            generator.writeEndObject();
+        }
+
+        return buffer.toString();
+    }
 
 }
@@ -0,0 +1,26 @@
+package io.github.theforbiddenai.gamefinder.utilities.steam;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Holds the id of a Steam app, package, or bundle in the form needed by the /IStoreBrowseService/GetItems/v1 endpoint
+ *
+ * @author TheForbiddenAi
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class StoreItemId {
+
+    // The json field name of the id (appId, packageId, or bundleId)
+    private final String type;
+    private final long id;
+
+    public StoreItemId(String type, long id) {
+        this.type = type;
+        this.id = id;
+    }
+
+}
@@ -4,14 +4,17 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.theforbiddenai.gamefinder.domain.Game;
+import io.github.theforbiddenai.gamefinder.domain.Platform;
 import io.github.theforbiddenai.gamefinder.exception.WebScrapeException;
 import io.github.theforbiddenai.gamefinder.constants.GameFinderConstants;
+import io.github.theforbiddenai.gamefinder.utilities.http.HttpTransport;
 import okhttp3.OkHttpClient;
+import okio.BufferedSource;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.safety.Safelist;
 
-import java.io.InputStream;
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
@@ -28,6 +31,16 @@ public class GOGWebScraper extends WebScraper<JsonNode> {
     private static final String JSON_FIELD_FORMAT = "\"%s\":%s";
     private static final int PRODUCT_CARD_FIELD_COUNT = 3;
 
+    private static final String CARD_PRODUCT_PREFIX = "cardProduct:";
+    private static final String CURRENCY_PREFIX = "currency:";
+    private static final String PROMO_END_DATE_PREFIX = "window.productcardData.cardProductPromoEndDate =";
+
+    private static final PageScanner PRODUCT_CARD_SCANNER = PageScanner.startingWith(
+            CARD_PRODUCT_PREFIX,
+            CURRENCY_PREFIX,
+            PROMO_END_DATE_PREFIX
+    );
+
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS");
 
     // This set contains the names of the json fields that should be added to the storeMedia map in a game object
@@ -44,12 +57,17 @@ public class GOGWebScraper extends WebScraper<JsonNode> {
     private final ObjectMapper mapper;
 
     public GOGWebScraper(ObjectMapper mapper) {
-        super("gog_wantsmaturecontent=9999");
+        super("gog_wantsmaturecontent=9999", Platform.GOG);
         this.mapper = mapper;
     }
 
     public GOGWebScraper(OkHttpClient httpClient, ObjectMapper mapper) {
-        super("gog_wantsmaturecontent=9999", httpClient);
+        super("gog_wantsmaturecontent=9999", Platform.GOG, httpClient);
+        this.mapper = mapper;
+    }
+
+    public GOGWebScraper(HttpTransport transport, ObjectMapper mapper) {
+        super("gog_wantsmaturecontent=9999", Platform.GOG, transport);
         this.mapper = mapper;
     }
 
@@ -86,16 +104,23 @@ public class GOGWebScraper extends WebScraper<JsonNode> {
      * {@inheritDoc}
      */
     @Override
-    protected JsonNode processHTML(InputStream inputStream, String url) throws WebScrapeException {
+    protected long getDataExpirationEpoch(JsonNode jsonNode) {
+        JsonNode promoNode = jsonNode.get("cardProductPromoEndDate");
+        return promoNode == null ? GameFinderConstants.NO_EXPIRATION_EPOCH : getExpirationEpoch(promoNode);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected JsonNode processHTML(BufferedSource source, String url) throws IOException, WebScrapeException {
         StringBuilder jsonBuilder = new StringBuilder("{");
         Set<String> foundFields = new HashSet<>();
 
-        Scanner scanner = new Scanner(inputStream);
-
-        // Loop through the HTML lines
-        while (scanner.hasNextLine()) {
-            String line = scanner.nextLine().stripLeading();
+        String line;
 
+        // Loop through the HTML lines that start with a product card field
+        while ((line = PRODUCT_CARD_SCANNER.nextMatchingLine(source)) != null) {
             String jsonField = getJsonField(line, foundFields);
             if (jsonField != null) {
                 jsonBuilder.append(jsonField).append(",");
@@ -109,8 +134,6 @@ public class GOGWebScraper extends WebScraper<JsonNode> {
             throw new WebScrapeException("Unable to retrieve all required product card data for GOG game with url " + url);
         }
 
-        scanner.close();
-
         // Remove hanging comma and add closing curly brace
         jsonBuilder.deleteCharAt(jsonBuilder.length() - 1);
 
@@ -227,19 +250,19 @@ public class GOGWebScraper extends WebScraper<JsonNode> {
         String name = "";
         String value = "";
 
-        if (line.startsWith("cardProduct:")) {
+        if (line.startsWith(CARD_PRODUCT_PREFIX)) {
             name = "cardProduct";
-            value = getJsonValue(line, "cardProduct:", "}");
+            value = getJsonValue(line, CARD_PRODUCT_PREFIX, "}");
         }
 
-        if (line.startsWith("currency:")) {
+        if (line.startsWith(CURRENCY_PREFIX)) {
             name = "currency";
-            value = getJsonValue(line, "currency:", "\"");
+            value = getJsonValue(line, CURRENCY_PREFIX, "\"");
         }
 
-        if (line.startsWith("window.productcardData.cardProductPromoEndDate =")) {
+        if (line.startsWith(PROMO_END_DATE_PREFIX)) {
             name = "cardProductPromoEndDate";
-            value = getJsonValue(line, "window.productcardData.cardProductPromoEndDate =", "}");
+            value = getJsonValue(line, PROMO_END_DATE_PREFIX, "}");
         }
 
         // Make sure that there is a valid name and value (name can only ever be empty not blank)
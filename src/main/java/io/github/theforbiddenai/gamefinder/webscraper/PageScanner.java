@@ -0,0 +1,154 @@
+package io.github.theforbiddenai.gamefinder.webscraper;
+
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ByteString;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Finds the lines of a page that contain a marker (i.e. "cardProduct:") directly on the bytes of a BufferedSource.
+ * Lines that do not match are skipped without being decoded into a String. A PageScanner does not hold any state
+ * about the page being scanned, so a single instance can be shared between every page and thread
+ *
+ * @author TheForbiddenAi
+ */
+public class PageScanner {
+
+    private static final byte NEWLINE = '\n';
+
+    private final List<ByteString> markers;
+    private final boolean prefixMatch;
+
+    private PageScanner(List<ByteString> markers, boolean prefixMatch) {
+        this.markers = markers;
+        this.prefixMatch = prefixMatch;
+    }
+
+    /**
+     * Creates a PageScanner that matches lines starting with one of the markers, ignoring leading whitespace
+     *
+     * @param markers The markers being searched for
+     * @return The PageScanner
+     */
+    public static PageScanner startingWith(String... markers) {
+        return new PageScanner(toByteStrings(markers), true);
+    }
+
+    /**
+     * Creates a PageScanner that matches lines containing one of the markers anywhere in the line
+     *
+     * @param markers The markers being searched for
+     * @return The PageScanner
+     */
+    public static PageScanner containing(String... markers) {
+        return new PageScanner(toByteStrings(markers), false);
+    }
+
+    /**
+     * Reads lines from the source until a line matches one of the markers
+     *
+     * @param source The source the page is read from
+     * @return The matching line without its leading whitespace or line terminator, or null if the source was exhausted
+     * @throws IOException If the source can not be read
+     */
+    public String nextMatchingLine(BufferedSource source) throws IOException {
+        while (true) {
+            // This buffers the source until the end of the line (or the end of the page)
+            long newlineIndex = source.indexOf(NEWLINE);
+            Buffer buffer = source.getBuffer();
+
+            long lineEnd = newlineIndex == -1 ? buffer.size() : newlineIndex;
+            long terminatorLength = newlineIndex == -1 ? 0 : 1;
+
+            if (lineEnd == 0 && terminatorLength == 0) return null;
+
+            long lineStart = skipWhitespace(buffer, lineEnd);
+
+            if (!matches(buffer, lineStart, lineEnd)) {
+                source.skip(lineEnd + terminatorLength);
+                continue;
+            }
+
+            // Only the matching line is decoded
+            source.skip(lineStart);
+            String line = source.readUtf8(lineEnd - lineStart);
+            source.skip(terminatorLength);
+
+            return line.endsWith("\r") ? line.substring(0, line.length() - 1) : line;
+        }
+    }
+
+    /**
+     * Checks if the line between lineStart and lineEnd matches one of the markers
+     *
+     * @param buffer    The buffer containing the line
+     * @param lineStart The index of the first non-whitespace byte in the line
+     * @param lineEnd   The index of the end of the line (exclusive)
+     * @return Whether the line matches
+     */
+    private boolean matches(Buffer buffer, long lineStart, long lineEnd) {
+        for (ByteString marker : markers) {
+            if (prefixMatch) {
+                if (lineEnd - lineStart >= marker.size() && buffer.rangeEquals(lineStart, marker)) return true;
+                continue;
+            }
+
+            if (containsMarker(buffer, marker, lineStart, lineEnd)) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Searches for a marker within a line. The search never looks past the end of the line,
+     * even if the buffer already contains the lines after it
+     *
+     * @param buffer    The buffer containing the line
+     * @param marker    The marker being searched for
+     * @param lineStart The index of the first non-whitespace byte in the line
+     * @param lineEnd   The index of the end of the line (exclusive)
+     * @return Whether the line contains the marker
+     */
+    private static boolean containsMarker(Buffer buffer, ByteString marker, long lineStart, long lineEnd) {
+        byte firstByte = marker.getByte(0);
+        // The last index the marker could start at and still fit within the line
+        long lastStart = lineEnd - marker.size();
+
+        long index = lineStart;
+        while (index <= lastStart) {
+            index = buffer.indexOf(firstByte, index, lastStart + 1);
+            if (index == -1) return false;
+            if (buffer.rangeEquals(index, marker)) return true;
+            index++;
+        }
+
+        return false;
+    }
+
+    /**
+     * Finds the index of the first non-whitespace byte in a line
+     *
+     * @param buffer  The buffer containing the line
+     * @param lineEnd The index of the end of the line (exclusive)
+     * @return The index of the first non-whitespace byte, or lineEnd if the line is blank
+     */
+    private static long skipWhitespace(Buffer buffer, long lineEnd) {
+        long index = 0;
+        while (index < lineEnd && isWhitespace(buffer.getByte(index))) index++;
+        return index;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\f' || b == 0x0B;
+    }
+
+    private static List<ByteString> toByteStrings(String... markers) {
+        return Arrays.stream(markers)
+                .map(ByteString::encodeUtf8)
+                .toList();
+    }
+
+}
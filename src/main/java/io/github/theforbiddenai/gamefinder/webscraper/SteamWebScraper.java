@@ -2,16 +2,18 @@ package io.github.theforbiddenai.gamefinder.webscraper;
 
 import io.github.theforbiddenai.gamefinder.constants.GameFinderConstants;
 import io.github.theforbiddenai.gamefinder.domain.Game;
+import io.github.theforbiddenai.gamefinder.domain.Platform;
+import io.github.theforbiddenai.gamefinder.utilities.http.HttpTransport;
 import okhttp3.OkHttpClient;
+import okio.BufferedSource;
 
-import java.io.InputStream;
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.Year;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.temporal.ChronoField;
-import java.util.Scanner;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -22,6 +24,8 @@ import java.util.regex.Pattern;
  */
 public class SteamWebScraper extends WebScraper<Long> {
 
+    private static final PageScanner FREE_TO_KEEP_SCANNER = PageScanner.containing("Free to keep");
+
     // Matches strings like May 10 @ 1:00PM
     private static final Pattern STEAM_MONTH_DAY_TIME_REGEX = Pattern.compile("([A-z]{3} \\d{1,2}) (@ \\d{1,2}:\\d{2}(am|pm)?)");
 
@@ -32,11 +36,15 @@ public class SteamWebScraper extends WebScraper<Long> {
             .toFormatter();
 
     public SteamWebScraper() {
-        super("birthtime=568022401");
+        super("birthtime=568022401", Platform.STEAM);
     }
 
     public SteamWebScraper(OkHttpClient httpClient) {
-        super("birthtime=568022401", httpClient);
+        super("birthtime=568022401", Platform.STEAM, httpClient);
+    }
+
+    public SteamWebScraper(HttpTransport transport) {
+        super("birthtime=568022401", Platform.STEAM, transport);
     }
 
     /**
@@ -51,15 +59,19 @@ public class SteamWebScraper extends WebScraper<Long> {
      * {@inheritDoc}
      */
     @Override
-    protected Long processHTML(InputStream inputStream, String url) {
-        Scanner scanner = new Scanner(inputStream);
-
-        while (scanner.hasNextLine()) {
-            String line = scanner.nextLine().stripLeading();
+    protected long getDataExpirationEpoch(Long expirationEpoch) {
+        return expirationEpoch == null ? GameFinderConstants.NO_EXPIRATION_EPOCH : expirationEpoch;
+    }
 
-            // Get the line that potentially has the free to keep promotion details on it
-            if (!line.contains("Free to keep")) continue;
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Long processHTML(BufferedSource source, String url) throws IOException {
+        String line;
 
+        // Get the lines that potentially have the free to keep promotion details on them
+        while ((line = FREE_TO_KEEP_SCANNER.nextMatchingLine(source)) != null) {
             Matcher matcher = STEAM_MONTH_DAY_TIME_REGEX.matcher(line);
 
             if (!matcher.find()) {
@@ -81,7 +93,6 @@ public class SteamWebScraper extends WebScraper<Long> {
                     .getEpochSecond();
         }
 
-        scanner.close();
         return GameFinderConstants.NO_EXPIRATION_EPOCH;
     }
 
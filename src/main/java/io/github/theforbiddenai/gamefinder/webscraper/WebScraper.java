@@ -1,17 +1,27 @@
 package io.github.theforbiddenai.gamefinder.webscraper;
 
 import io.github.theforbiddenai.gamefinder.GameFinderConfiguration;
+import io.github.theforbiddenai.gamefinder.constants.GameFinderConstants;
 import io.github.theforbiddenai.gamefinder.exception.WebScrapeException;
 import io.github.theforbiddenai.gamefinder.domain.Game;
+import io.github.theforbiddenai.gamefinder.domain.Platform;
+import io.github.theforbiddenai.gamefinder.utilities.cache.WebScrapeCache;
+import io.github.theforbiddenai.gamefinder.utilities.http.HttpTransport;
+import io.github.theforbiddenai.gamefinder.utilities.http.OkHttpTransport;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
+import okio.BufferedSource;
+import okio.Okio;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /**
  * Responsible for web scraping data from a game page
@@ -25,17 +35,28 @@ public abstract class WebScraper<T> {
     private static final int TIMEOUT_SECONDS = 10;
 
     private final String cookies;
-    private final OkHttpClient httpClient;
+    private final Platform platform;
+    private final HttpTransport transport;
 
+    // The data web scraped from each page is cached until it (or the cache entry) expires
+    private final WebScrapeCache<T> webScrapeCache = new WebScrapeCache<>(this::getDataExpirationEpoch);
 
-    protected WebScraper(String cookies) {
+    protected WebScraper(String cookies, Platform platform) {
         this.cookies = cookies;
-        this.httpClient = new OkHttpClient();
+        this.platform = platform;
+        this.transport = HttpTransport.configured();
     }
 
-    protected WebScraper(String cookies, OkHttpClient httpClient) {
+    protected WebScraper(String cookies, Platform platform, OkHttpClient httpClient) {
         this.cookies = cookies;
-        this.httpClient = httpClient;
+        this.platform = platform;
+        this.transport = new OkHttpTransport(httpClient);
+    }
+
+    protected WebScraper(String cookies, Platform platform, HttpTransport transport) {
+        this.cookies = cookies;
+        this.platform = platform;
+        this.transport = transport;
     }
 
     /**
@@ -46,11 +67,24 @@ public abstract class WebScraper<T> {
      * @return A CompletableFuture containing the updated game
      */
     public CompletableFuture<Game> modifyGameAttributes(Game game) {
-        return CompletableFuture.supplyAsync(() -> getHTMLData(game.getUrl()), CONFIG.getExecutorService())
-                .thenApply(html -> {
-                    modifyGameAttributes(html, game);
-                    return game;
-                }).orTimeout(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        String url = game.getUrl();
+
+        // When asynchronous, the request does not hold a thread while waiting on the network
+        CompletableFuture<T> htmlDataFuture = webScrapeCache.get(getCacheKey(url), () -> CONFIG.useAsyncWebScraping()
+                ? getHTMLDataAsync(url)
+                : CONFIG.getPlatformExecutor(platform).supplyAsync(() -> getHTMLData(url)));
+
+        Function<T, Game> updateGame = html -> {
+            modifyGameAttributes(html, game);
+            return game;
+        };
+
+        // Virtual threads should not be used for CPU bound parsing, so the game is updated on the bounded parsing executor
+        // instead. Asynchronous requests already complete on the parsing executor
+        boolean useParsingExecutor = !CONFIG.useAsyncWebScraping() && CONFIG.useVirtualThreads();
+        return useParsingExecutor
+                ? htmlDataFuture.thenApplyAsync(updateGame, CONFIG.getParsingExecutorService())
+                : htmlDataFuture.thenApply(updateGame);
     }
 
     /**
@@ -63,40 +97,161 @@ public abstract class WebScraper<T> {
     protected abstract void modifyGameAttributes(T t, Game game) throws WebScrapeException;
 
     /**
-     * Retrieves the data needed to complete a game object from the HTML of a game page
+     * Gets the epoch second that web scraped data stops being valid at (i.e. when the discount it was scraped for ends).
+     * The data is not cached past this point
+     *
+     * @param t The data object containing the data required to complete a game object
+     * @return The expiration epoch, or {@link GameFinderConstants#NO_EXPIRATION_EPOCH} if the data does not expire
+     */
+    protected long getDataExpirationEpoch(T t) {
+        return GameFinderConstants.NO_EXPIRATION_EPOCH;
+    }
+
+    /**
+     * Retrieves the data needed to complete a game object from the HTML of a game page. Implementations should
+     * stop reading from the source as soon as the required data has been found
      *
-     * @param inputStream The HTML of the page
-     * @param url         The url of the game page
+     * @param source The HTML of the page
+     * @param url    The url of the game page
      * @return An object containing the data required to complete a game object
+     * @throws IOException        If the source can not be read
      * @throws WebScrapeException If the required data is unable to be retrieved
      */
-    protected abstract T processHTML(InputStream inputStream, String url) throws WebScrapeException;
+    protected abstract T processHTML(BufferedSource source, String url) throws IOException, WebScrapeException;
 
 
     /**
      * Gets the required data from a website's HTML
      *
      * @param url The url of the website
-     * @return A data object containing the information specified in {@link #processHTML(InputStream, String)}
+     * @return A data object containing the information specified in {@link #processHTML(BufferedSource, String)}
      * @throws WebScrapeException If the request to connect to the website fails or the response body is null
      */
     private T getHTMLData(String url) throws WebScrapeException {
-        Request request = new Request.Builder()
+        Call call = newCall(url);
+
+        try (Response response = call.execute()) {
+            return readHTMLData(call, response, url);
+        } catch (IOException ex) {
+            throw new WebScrapeException("Unable to connect to " + url, ex);
+        }
+    }
+
+    /**
+     * Gets the required data from a website's HTML without blocking the calling thread. The request holds one of the
+     * platform's bulkhead slots until its page has been processed, and the page is read on the parsing executor
+     * rather than on OkHttp's callback thread
+     *
+     * @param url The url of the website
+     * @return A CompletableFuture containing the data object specified in {@link #processHTML(BufferedSource, String)}
+     */
+    private CompletableFuture<T> getHTMLDataAsync(String url) {
+        return CONFIG.getPlatformExecutor(platform).executeAsync(() -> {
+            CompletableFuture<T> htmlDataFuture = new CompletableFuture<>();
+
+            newCall(url).enqueue(new Callback() {
+                @Override
+                public void onFailure(Call call, IOException ex) {
+                    htmlDataFuture.completeExceptionally(new WebScrapeException("Unable to connect to " + url, ex));
+                }
+
+                @Override
+                public void onResponse(Call call, Response response) {
+                    try {
+                        CONFIG.getParsingExecutorService().execute(() -> readHTMLData(call, response, url, htmlDataFuture));
+                    } catch (RejectedExecutionException ex) {
+                        response.close();
+                        htmlDataFuture.completeExceptionally(ex);
+                    }
+                }
+            });
+
+            return htmlDataFuture;
+        });
+    }
+
+    /**
+     * Reads the required data from a website's response and completes a future with it
+     *
+     * @param call           The call that the response belongs to
+     * @param response       The response containing the website's HTML. It is closed once it has been read
+     * @param url            The url of the website
+     * @param htmlDataFuture The future being completed
+     */
+    private void readHTMLData(Call call, Response response, String url, CompletableFuture<T> htmlDataFuture) {
+        try (response) {
+            htmlDataFuture.complete(readHTMLData(call, response, url));
+        } catch (IOException ex) {
+            htmlDataFuture.completeExceptionally(new WebScrapeException("Unable to connect to " + url, ex));
+        } catch (RuntimeException ex) {
+            htmlDataFuture.completeExceptionally(ex);
+        }
+    }
+
+    /**
+     * Creates the call for a website's HTML. Its timeout only starts once the call is sent, so time spent waiting
+     * for a bulkhead slot does not count against it
+     *
+     * @param url The url of the website
+     * @return The call
+     */
+    private Call newCall(String url) {
+        Call call = transport.newCall(createRequest(url));
+        call.timeout().timeout(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        return call;
+    }
+
+    /**
+     * Creates the request for a website's HTML
+     *
+     * @param url The url of the website
+     * @return The request
+     */
+    private Request createRequest(String url) {
+        return new Request.Builder()
                 .url(url)
                 .header("cookie", this.generateCookieString())
                 .build();
+    }
 
-        try (Response response = httpClient.newCall(request).execute()) {
-            ResponseBody responseBody = response.body();
+    /**
+     * Reads the required data from a website's response
+     *
+     * @param call     The call that the response belongs to
+     * @param response The response containing the website's HTML
+     * @param url      The url of the website
+     * @return A data object containing the information specified in {@link #processHTML(BufferedSource, String)}
+     * @throws IOException        If the response body can not be read
+     * @throws WebScrapeException If the response body is null or the required data is unable to be retrieved
+     */
+    private T readHTMLData(Call call, Response response, String url) throws IOException, WebScrapeException {
+        ResponseBody responseBody = response.body();
 
-            if (responseBody == null)
-                throw new WebScrapeException("Unable to retrieve HTML from " + url);
+        if (responseBody == null)
+            throw new WebScrapeException("Unable to retrieve HTML from " + url);
 
+        T data = processHTML(responseBody.source(), url);
 
-            return processHTML(responseBody.byteStream(), url);
-        } catch (IOException ex) {
-            throw new WebScrapeException("Unable to connect to " + url, ex);
+        if (transport.hasCache()) {
+            // The HTTP cache only stores pages that are read to the end, and a stored page can be revalidated instead
+            // of being downloaded again
+            responseBody.source().readAll(Okio.blackhole());
+        } else {
+            // The required data has been found, so the rest of the page does not need to be downloaded.
+            // Without this, closing the response would keep reading the remaining body
+            call.cancel();
         }
+        return data;
+    }
+
+    /**
+     * Gets the key a page's data is cached under. The locale and cookies are included, since they change the page's content
+     *
+     * @param url The url of the page
+     * @return The cache key
+     */
+    private String getCacheKey(String url) {
+        return url + " " + CONFIG.getLocale() + " " + this.generateCookieString();
     }
 
     /**
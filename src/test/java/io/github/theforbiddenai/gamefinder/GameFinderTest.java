@@ -1,20 +1,39 @@
 package io.github.theforbiddenai.gamefinder;
 
+import io.github.theforbiddenai.gamefinder.callback.CallbackDispatcher;
+import io.github.theforbiddenai.gamefinder.callback.CallbackOverflowPolicy;
 import io.github.theforbiddenai.gamefinder.domain.Game;
 import io.github.theforbiddenai.gamefinder.domain.Platform;
+import io.github.theforbiddenai.gamefinder.domain.PlatformStatus;
+import io.github.theforbiddenai.gamefinder.domain.RetrievalResult;
 import io.github.theforbiddenai.gamefinder.domain.ScraperResult;
 import io.github.theforbiddenai.gamefinder.exception.GameRetrievalException;
 import io.github.theforbiddenai.gamefinder.scraper.impl.EpicGamesScraper;
 import io.github.theforbiddenai.gamefinder.scraper.impl.SteamScraper;
+import io.github.theforbiddenai.gamefinder.utilities.http.OkHttpTransport;
+import okhttp3.Call;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
+
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -114,6 +133,195 @@ class GameFinderTest {
 
     }
 
+    @Test
+    void testCallbackOverflowIsReported() throws InterruptedException {
+        CONFIG.getEnabledPlatforms().addAll(List.of(Platform.EPIC_GAMES, Platform.STEAM));
+
+        // The dispatch thread is held by the first callback, and the second one fills the queue
+        CallbackDispatcher callbackDispatcher = new CallbackDispatcher(1, CallbackOverflowPolicy.FAIL);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        callbackDispatcher.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        callbackDispatcher.execute(() -> {});
+
+        CONFIG.setCallbackDispatcher(callbackDispatcher);
+        try {
+            List<Throwable> errors = new CopyOnWriteArrayList<>();
+            CountDownLatch errorReported = new CountDownLatch(1);
+
+            gameFinder.retrieveGamesAsync(games -> {}, throwable -> {
+                errors.add(throwable);
+                errorReported.countDown();
+            });
+
+            // The error callback can not be handed off to the full queue either, so it is run on the scraping thread
+            assertTrue(errorReported.await(5, TimeUnit.SECONDS));
+            assertTrue(errors.get(0) instanceof RejectedExecutionException);
+        } finally {
+            CONFIG.setCallbackDispatcher(null);
+            release.countDown();
+        }
+    }
+
+    @Test
+    void testRetrieveGamesWithDeadline() throws GameRetrievalException {
+        CONFIG.getEnabledPlatforms().addAll(List.of(Platform.EPIC_GAMES, Platform.STEAM));
+
+        Game readyGame = Game.builder().title("Game 1").build();
+        // This game never finishes being web scraped, so it misses the deadline
+        List<ScraperResult> epicGamesResults = List.of(new ScraperResult(readyGame), new ScraperResult(new CompletableFuture<>()));
+
+        // Separate mocks are used, so that the failing stub does not leak into the other tests
+        EpicGamesScraper epicGamesScraper = mock(EpicGamesScraper.class);
+        when(epicGamesScraper.retrieveResults()).thenReturn(epicGamesResults);
+        when(epicGamesScraper.getPlatform()).thenReturn(Platform.EPIC_GAMES);
+
+        SteamScraper steamScraper = mock(SteamScraper.class);
+        when(steamScraper.retrieveResults()).thenThrow(new GameRetrievalException("Unable to retrieve games from Steam"));
+        when(steamScraper.getPlatform()).thenReturn(Platform.STEAM);
+
+        RetrievalResult result = new GameFinder(List.of(epicGamesScraper, steamScraper)).retrieveGames(Duration.ofMillis(500));
+
+        assertEquals(List.of(readyGame), result.getGames());
+        assertEquals(PlatformStatus.PARTIAL, result.getPlatformStatuses().get(Platform.EPIC_GAMES));
+        assertEquals(PlatformStatus.FAILED, result.getPlatformStatuses().get(Platform.STEAM));
+        assertTrue(result.getPlatformErrors().get(Platform.STEAM) instanceof GameRetrievalException);
+        assertFalse(result.isComplete());
+    }
+
+    @Test
+    void testCallsMadeWithDeadlineAreBoundByIt() throws GameRetrievalException {
+        CONFIG.getEnabledPlatforms().addAll(List.of(Platform.EPIC_GAMES, Platform.STEAM));
+
+        // The scraper makes its call through the transport, which registers it with the retrieval's context
+        OkHttpTransport transport = new OkHttpTransport(new OkHttpClient());
+        AtomicReference<Call> scraperCall = new AtomicReference<>();
+
+        EpicGamesScraper epicGamesScraper = mock(EpicGamesScraper.class);
+        when(epicGamesScraper.retrieveResults()).thenAnswer(invocation -> {
+            scraperCall.set(transport.newCall(new Request.Builder().url("https://store.epicgames.com/").build()));
+            return List.of();
+        });
+        when(epicGamesScraper.getPlatform()).thenReturn(Platform.EPIC_GAMES);
+
+        SteamScraper steamScraper = mock(SteamScraper.class);
+        when(steamScraper.retrieveResults()).thenReturn(List.of());
+        when(steamScraper.getPlatform()).thenReturn(Platform.STEAM);
+
+        new GameFinder(List.of(epicGamesScraper, steamScraper)).retrieveGames(Duration.ofSeconds(5));
+        // The deadline was set before this point, so it can not be any later than 5 seconds from now
+        long latestDeadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        assertTrue(scraperCall.get().timeout().hasDeadline());
+        assertTrue(scraperCall.get().timeout().deadlineNanoTime() <= latestDeadlineNanos);
+    }
+
+    @Test
+    void testRetrieveGamesAsyncCancel() throws GameRetrievalException {
+        CONFIG.getEnabledPlatforms().addAll(List.of(Platform.EPIC_GAMES, Platform.STEAM));
+
+        // This game never finishes being web scraped, so the retrieval can only finish by being cancelled
+        CompletableFuture<Game> pendingGame = new CompletableFuture<>();
+        when(mockEpicGamesScraper.retrieveResults()).thenReturn(List.of(new ScraperResult(pendingGame)));
+
+        RetrievalHandle handle = gameFinder.retrieveGamesAsync();
+        assertFalse(handle.getFuture().isDone());
+
+        handle.cancel();
+
+        assertTrue(handle.isCancelled());
+        assertTrue(handle.getFuture().isCancelled());
+        assertThrows(CancellationException.class, () -> handle.getFuture().join());
+    }
+
+    @Test
+    void testPublish() throws InterruptedException {
+        CONFIG.getEnabledPlatforms().addAll(List.of(Platform.EPIC_GAMES, Platform.STEAM));
+
+        List<Game> expectedGames = new ArrayList<>();
+        expectedGames.addAll(expectedEpicGamesResults);
+        expectedGames.addAll(expectedSteamResults);
+
+        List<Game> actualGames = new CopyOnWriteArrayList<>();
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+        CountDownLatch completed = new CountDownLatch(1);
+
+        gameFinder.publish(errors::add).subscribe(new Flow.Subscriber<>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(Game game) {
+                actualGames.add(game);
+                // Games are requested one at a time, so every game after the first is held back until it is requested
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                errors.add(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                completed.countDown();
+            }
+        });
+
+        assertTrue(completed.await(30, TimeUnit.SECONDS));
+        assertTrue(errors.isEmpty());
+        TestHelper.assertCollectionEquals(expectedGames, actualGames);
+    }
+
+    @Test
+    void testPublishInvalidRequestFailsSubscriber() throws InterruptedException {
+        CONFIG.getEnabledPlatforms().addAll(List.of(Platform.EPIC_GAMES, Platform.STEAM));
+
+        List<String> signals = new CopyOnWriteArrayList<>();
+        CountDownLatch failed = new CountDownLatch(1);
+
+        gameFinder.publish(throwable -> {}).subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(0);
+            }
+
+            @Override
+            public void onNext(Game game) {
+                signals.add("onNext");
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                signals.add(throwable.getClass().getSimpleName());
+                failed.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                signals.add("onComplete");
+            }
+        });
+
+        assertTrue(failed.await(5, TimeUnit.SECONDS));
+        // Nothing is signalled after the error, even though the retrieval was already running
+        Thread.sleep(100);
+        assertEquals(List.of("IllegalArgumentException"), signals);
+    }
+
     /**
      * Converts a list of ScraperResults into game objects
      *
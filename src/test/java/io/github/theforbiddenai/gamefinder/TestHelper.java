@@ -1,20 +1,25 @@
 package io.github.theforbiddenai.gamefinder;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.theforbiddenai.gamefinder.utilities.http.HttpTransport;
 import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
+import okio.Okio;
+import okio.Timeout;
 import org.mockito.Mockito;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.URL;
 import java.util.Collection;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -36,7 +41,7 @@ public class TestHelper {
     /**
      * Creates and setups all the mock calls for a mock OkHttpClient object
      *
-     * @param byteStream The InputStream to return when the byteStream method is called on the mockResponseBody object
+     * @param byteStream The InputStream to return when the byteStream or source method is called on the mockResponseBody object
      * @return A mock OkHttpClient object
      * @throws IOException This will never happen
      */
@@ -49,40 +54,57 @@ public class TestHelper {
 
         when(mockHttpClient.newCall(Mockito.any())).thenReturn(mockCall);
         when(mockCall.execute()).thenReturn(mockResponse);
+        when(mockCall.timeout()).thenReturn(new Timeout());
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Callback.class).onResponse(mockCall, mockResponse);
+            return null;
+        }).when(mockCall).enqueue(Mockito.any());
 
         when(mockResponse.body()).thenReturn(mockResponseBody);
         when(mockResponse.isSuccessful()).thenReturn(true);
 
         when(mockResponseBody.string()).thenReturn("");
         when(mockResponseBody.byteStream()).thenReturn(byteStream);
+        when(mockResponseBody.source()).thenReturn(Okio.buffer(Okio.source(byteStream)));
 
         return mockHttpClient;
     }
 
     /**
-     * Creates and setups all the mock calls for a mock ObjectMapper object
+     * Creates a mock HttpTransport that responds to every request with json data
      *
-     * @param callable The callback that determines the JsonNode that is returned based on the url path
-     * @return A mock ObjectMapper object
+     * @param callable The callback that determines the JsonNode that is returned based on the url path.
+     *                 If it returns null, a 404 response is returned
+     * @return A mock HttpTransport object
      */
-    public static ObjectMapper createMockURLObjectMapper(ObjectMapperCallable callable) {
-        return mock(ObjectMapper.class, answer -> {
-            // Make sure the method being called is readTree, if not do not inject return values
-            if (!answer.getMethod().getName().equals("readTree")) return answer.callRealMethod();
-
-            // Ensure the argument passed is a URL object
-            Object arg = answer.getArgument(0);
-            if (!(arg instanceof URL url)) return answer.callRealMethod();
-
-            // Return the correct value depending on the URL path
-            JsonNode jsonNode = callable.processURL(url.getPath());
-            if (jsonNode != null) return jsonNode;
-
-            return answer.callRealMethod();
-        });
+    public static HttpTransport createMockHttpTransport(URLPathCallable callable) {
+        return request -> {
+            JsonNode jsonNode = callable.processURL(request.url().encodedPath());
+
+            Response response = new Response.Builder()
+                    .request(request)
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(jsonNode == null ? 404 : 200)
+                    .message(jsonNode == null ? "Not Found" : "OK")
+                    .body(ResponseBody.create(jsonNode == null ? "" : jsonNode.toString(), MediaType.get("application/json")))
+                    .build();
+            Timeout timeout = new Timeout();
+
+            // Answer is used instead of when().thenReturn() because execute throws a checked exception
+            return mock(Call.class, answer -> {
+                if (answer.getMethod().getName().equals("execute")) return response;
+                if (answer.getMethod().getName().equals("request")) return request;
+                if (answer.getMethod().getName().equals("timeout")) return timeout;
+                if (answer.getMethod().getName().equals("enqueue")) {
+                    answer.getArgument(0, Callback.class).onResponse((Call) answer.getMock(), response);
+                    return null;
+                }
+                return Mockito.RETURNS_DEFAULTS.answer(answer);
+            });
+        };
     }
 
-    public interface ObjectMapperCallable {
+    public interface URLPathCallable {
 
         JsonNode processURL(String urlPath);
 
@@ -0,0 +1,55 @@
+package io.github.theforbiddenai.gamefinder.callback;
+
+import io.github.theforbiddenai.gamefinder.domain.Game;
+import io.github.theforbiddenai.gamefinder.domain.Platform;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchingGameRetrievalCallbackTest {
+
+    @Test
+    void testBatchesAreCoalescedAcrossCalls() {
+        List<Collection<Game>> batches = new CopyOnWriteArrayList<>();
+        BatchingGameRetrievalCallback callback = new BatchingGameRetrievalCallback(batches::add, 3, Duration.ofMinutes(1));
+
+        // Two platforms each send two games, which fills one batch and starts another
+        callback.retrieveGame(List.of(createGame("Game 1", Platform.STEAM), createGame("Game 2", Platform.STEAM)));
+        callback.retrieveGame(List.of(createGame("Game 3", Platform.GOG), createGame("Game 4", Platform.GOG)));
+
+        assertEquals(1, batches.size());
+        assertEquals(3, batches.get(0).size());
+
+        callback.flush();
+
+        assertEquals(2, batches.size());
+        assertEquals(List.of(createGame("Game 4", Platform.GOG)), batches.get(1));
+    }
+
+    @Test
+    void testBatchIsSentAfterLinger() throws InterruptedException {
+        CountDownLatch delivered = new CountDownLatch(1);
+        BatchingGameRetrievalCallback callback = new BatchingGameRetrievalCallback(games -> delivered.countDown(), 10, Duration.ofMillis(50));
+
+        callback.retrieveGame(List.of(createGame("Game 1", Platform.STEAM)));
+
+        // The batch never fills, so it is only sent once the linger time has passed
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+    }
+
+    private Game createGame(String title, Platform platform) {
+        return Game.builder()
+                .title(title)
+                .platform(platform)
+                .build();
+    }
+
+}
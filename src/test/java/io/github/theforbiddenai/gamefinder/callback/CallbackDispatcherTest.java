@@ -0,0 +1,72 @@
+package io.github.theforbiddenai.gamefinder.callback;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CallbackDispatcherTest {
+
+    @Test
+    void testDropOldestPolicy() throws InterruptedException {
+        CallbackDispatcher dispatcher = new CallbackDispatcher(2, CallbackOverflowPolicy.DROP_OLDEST);
+        List<Integer> ranCallbacks = new CopyOnWriteArrayList<>();
+        CountDownLatch finished = new CountDownLatch(1);
+
+        CountDownLatch release = blockDispatchThread(dispatcher);
+
+        // The queue only holds two callbacks, so the first one is dropped
+        dispatcher.execute(() -> ranCallbacks.add(1));
+        dispatcher.execute(() -> ranCallbacks.add(2));
+        dispatcher.execute(() -> ranCallbacks.add(3));
+        dispatcher.execute(finished::countDown);
+
+        release.countDown();
+
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(3), ranCallbacks);
+    }
+
+    @Test
+    void testFailPolicy() throws InterruptedException {
+        CallbackDispatcher dispatcher = new CallbackDispatcher(1, CallbackOverflowPolicy.FAIL);
+        CountDownLatch release = blockDispatchThread(dispatcher);
+
+        dispatcher.execute(() -> {});
+        assertThrows(RejectedExecutionException.class, () -> dispatcher.execute(() -> {}));
+
+        release.countDown();
+    }
+
+    /**
+     * Hands off a callback that holds the dispatch thread until the returned latch is counted down
+     *
+     * @param dispatcher The dispatcher being blocked
+     * @return The latch that releases the dispatch thread
+     * @throws InterruptedException If interrupted while waiting for the dispatch thread to start the callback
+     */
+    private CountDownLatch blockDispatchThread(CallbackDispatcher dispatcher) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        dispatcher.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        return release;
+    }
+
+}
@@ -2,6 +2,7 @@ package io.github.theforbiddenai.gamefinder.scraper;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.github.theforbiddenai.gamefinder.GameFinderConfiguration;
 import io.github.theforbiddenai.gamefinder.TestHelper;
 import io.github.theforbiddenai.gamefinder.domain.Game;
@@ -10,20 +11,26 @@ import io.github.theforbiddenai.gamefinder.domain.ScraperResult;
 import io.github.theforbiddenai.gamefinder.exception.GameRetrievalException;
 import io.github.theforbiddenai.gamefinder.scraper.impl.EpicGamesScraper;
 import io.github.theforbiddenai.gamefinder.utilities.epicgames.GraphQLClient;
-import okhttp3.OkHttpClient;
+import io.github.theforbiddenai.gamefinder.utilities.http.HttpTransport;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
-import org.mockito.Mockito;
 
 import java.io.IOException;
-import java.net.URL;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
-import static org.mockito.Mockito.doReturn;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 class EpicGamesScraperTest {
@@ -39,18 +46,18 @@ class EpicGamesScraperTest {
 
     @BeforeAll
     void setupJson() throws IOException {
-        // Must be spied due to how the object mapper is used in the GraphQLClient
-        ObjectMapper mapper = Mockito.spy(new ObjectMapper());
+        ObjectMapper mapper = new ObjectMapper();
         JsonNode graphQLNode = mapper.readTree(EpicGamesScraperTest.class.getResourceAsStream("/scraper/epic_games_data/epic-games-scraper-graphql-data.json"));
         JsonNode freeGamesPromotionsNode = mapper.readTree(EpicGamesScraperTest.class.getResourceAsStream("/scraper/epic_games_data/epic-games-scraper-freeGamesPromotions-data.json"));
 
-        doReturn(freeGamesPromotionsNode).when(mapper).readTree(Mockito.any(URL.class));
-        doReturn(graphQLNode).when(mapper).readTree(Mockito.anyString());
+        HttpTransport mockTransport = TestHelper.createMockHttpTransport(urlPath -> switch (urlPath) {
+            case "/graphql" -> graphQLNode;
+            case "/freeGamesPromotions" -> freeGamesPromotionsNode;
+            default -> null;
+        });
 
-        OkHttpClient mockHttpClient = TestHelper.setupOkHttpMocks(null);
-
-        GraphQLClient graphQLClient = new GraphQLClient(mapper, mockHttpClient);
-        this.epicGamesScraper = new EpicGamesScraper(mapper, graphQLClient);
+        GraphQLClient graphQLClient = new GraphQLClient(mapper, mockTransport);
+        this.epicGamesScraper = new EpicGamesScraper(mapper, graphQLClient, mockTransport);
     }
 
     @BeforeEach
@@ -112,4 +119,30 @@ class EpicGamesScraperTest {
         TestHelper.assertCollectionEquals(expectedGamesWithoutDLCsList, returnedGames);
     }
 
+    @Test
+    void testRetrieveGamesRequestsEveryPage() throws IOException, GameRetrievalException {
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode graphQLNode = mapper.readTree(EpicGamesScraperTest.class.getResourceAsStream("/scraper/epic_games_data/epic-games-scraper-graphql-data.json"));
+        JsonNode freeGamesPromotionsNode = mapper.readTree(EpicGamesScraperTest.class.getResourceAsStream("/scraper/epic_games_data/epic-games-scraper-freeGamesPromotions-data.json"));
+
+        // Every page reports a total of 250 listings, so pages must start at 0, 100 and 200
+        ObjectNode pagedNode = graphQLNode.deepCopy();
+        ((ObjectNode) pagedNode.at("/data/Catalog/searchStore/paging")).put("total", 250);
+
+        List<Integer> startIndexes = Collections.synchronizedList(new ArrayList<>());
+        GraphQLClient graphQLClient = mock(GraphQLClient.class);
+        when(graphQLClient.executeQuery(eq(GraphQLClient.STORE_QUERY), anyMap(), anyList(), any())).thenAnswer(invocation -> {
+            Map<String, Object> variables = invocation.getArgument(1);
+            assertEquals(100, variables.get("count"));
+            startIndexes.add((Integer) variables.get("start"));
+            return pagedNode;
+        });
+
+        HttpTransport mockTransport = TestHelper.createMockHttpTransport(urlPath -> freeGamesPromotionsNode);
+        new EpicGamesScraper(mapper, graphQLClient, mockTransport).retrieveResults();
+
+        startIndexes.sort(null);
+        assertEquals(List.of(0, 100, 200), startIndexes);
+    }
+
 }
@@ -2,6 +2,7 @@ package io.github.theforbiddenai.gamefinder.scraper;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.github.theforbiddenai.gamefinder.GameFinderConfiguration;
 import io.github.theforbiddenai.gamefinder.TestHelper;
 import io.github.theforbiddenai.gamefinder.domain.Game;
@@ -10,6 +11,7 @@ import io.github.theforbiddenai.gamefinder.domain.ScraperResult;
 import io.github.theforbiddenai.gamefinder.exception.GameRetrievalException;
 import io.github.theforbiddenai.gamefinder.scraper.impl.GOGScraper;
 import io.github.theforbiddenai.gamefinder.utilities.gog.GOGRequests;
+import io.github.theforbiddenai.gamefinder.utilities.http.HttpTransport;
 import io.github.theforbiddenai.gamefinder.webscraper.GOGWebScraper;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,7 +22,10 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -39,9 +44,9 @@ class GOGScraperTest {
         JsonNode giveawaySectionsNode = mapper.readTree(GOGScraperTest.class.getResourceAsStream("/scraper/gog_data/gog-home-page-giveaway-section.json"));
         JsonNode catalogNode = mapper.readTree(GOGScraperTest.class.getResourceAsStream("/scraper/gog_data/gog-catalog-data.json"));
 
-        // Inject return values into objectMapper map on readTree call
+        // Inject return values into the transport based on the url path
 
-        ObjectMapper mockObjectMapper = TestHelper.createMockURLObjectMapper(urlPath -> switch (urlPath) {
+        HttpTransport mockTransport = TestHelper.createMockHttpTransport(urlPath -> switch (urlPath) {
             case "/v1/pages/2f" -> homePageSectionsNode;
             case "/v1/pages/2f/sections/2" -> giveawaySectionsNode;
             case "/v1/catalog" -> catalogNode;
@@ -62,7 +67,7 @@ class GOGScraperTest {
             return CompletableFuture.completedFuture(game);
         });
 
-        this.gogScraper = new GOGScraper(mockObjectMapper, new GOGRequests(mockObjectMapper), mockGOGWebScraper);
+        this.gogScraper = new GOGScraper(mapper, new GOGRequests(mapper, mockTransport), mockGOGWebScraper);
     }
 
     @BeforeEach
@@ -124,4 +129,49 @@ class GOGScraperTest {
         TestHelper.assertCollectionEquals(expectedGamesWithoutDLCsList, actualGames);
     }
 
+    @Test
+    void testProductsRepeatedAcrossPagesAreScrapedOnce() throws IOException, GameRetrievalException {
+        GameFinderConfiguration.getInstance().includeDLCs(true);
+        ObjectMapper mapper = new ObjectMapper();
+
+        JsonNode homePageSectionsNode = mapper.readTree(GOGScraperTest.class.getResourceAsStream("/scraper/gog_data/gog-home-page-sections.json"));
+        JsonNode giveawaySectionsNode = mapper.readTree(GOGScraperTest.class.getResourceAsStream("/scraper/gog_data/gog-home-page-giveaway-section.json"));
+        // Both catalog pages list the same products, one of which is also a giveaway
+        ObjectNode catalogNode = (ObjectNode) mapper.readTree(GOGScraperTest.class.getResourceAsStream("/scraper/gog_data/gog-catalog-data.json"));
+        catalogNode.put("pages", 2);
+
+        HttpTransport mockTransport = TestHelper.createMockHttpTransport(urlPath -> switch (urlPath) {
+            case "/v1/pages/2f" -> homePageSectionsNode;
+            case "/v1/pages/2f/sections/2" -> giveawaySectionsNode;
+            case "/v1/catalog" -> catalogNode;
+            default -> null;
+        });
+
+        AtomicInteger scrapeCount = new AtomicInteger();
+        GOGWebScraper mockGOGWebScraper = mock(GOGWebScraper.class, answer -> {
+            if (!answer.getMethod().getName().equals("modifyGameAttributes")) return answer.callRealMethod();
+            if (!(answer.getArgument(0) instanceof Game game)) return answer.callRealMethod();
+
+            scrapeCount.incrementAndGet();
+            return CompletableFuture.completedFuture(game);
+        });
+
+        GOGScraper scraper = new GOGScraper(mapper, new GOGRequests(mapper, mockTransport), mockGOGWebScraper);
+
+        assertEquals(3, scraper.retrieveResults().size());
+        assertEquals(3, scrapeCount.get());
+    }
+
+    @Test
+    void testRetrieveGamesWhenGiveawayRequestFails() throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode catalogNode = mapper.readTree(GOGScraperTest.class.getResourceAsStream("/scraper/gog_data/gog-catalog-data.json"));
+
+        // The home page sections respond with a 404, so the giveaway request fails
+        HttpTransport mockTransport = TestHelper.createMockHttpTransport(urlPath -> urlPath.equals("/v1/catalog") ? catalogNode : null);
+        GOGScraper failingScraper = new GOGScraper(mapper, new GOGRequests(mapper, mockTransport), mock(GOGWebScraper.class));
+
+        assertThrows(GameRetrievalException.class, failingScraper::retrieveResults);
+    }
+
 }
@@ -2,6 +2,8 @@ package io.github.theforbiddenai.gamefinder.scraper;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.github.theforbiddenai.gamefinder.GameFinderConfiguration;
 import io.github.theforbiddenai.gamefinder.TestHelper;
 import io.github.theforbiddenai.gamefinder.domain.Game;
@@ -9,15 +11,24 @@ import io.github.theforbiddenai.gamefinder.domain.Platform;
 import io.github.theforbiddenai.gamefinder.domain.ScraperResult;
 import io.github.theforbiddenai.gamefinder.exception.GameRetrievalException;
 import io.github.theforbiddenai.gamefinder.scraper.impl.SteamScraper;
+import io.github.theforbiddenai.gamefinder.utilities.http.HttpTransport;
+import io.github.theforbiddenai.gamefinder.utilities.steam.SteamRequests;
+import io.github.theforbiddenai.gamefinder.webscraper.SteamWebScraper;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 class SteamScraperTest {
@@ -35,13 +46,13 @@ class SteamScraperTest {
         JsonNode itemTreeNode = mapper.readTree(SteamScraperTest.class.getResourceAsStream("/scraper/steam_data/steam-getitems-test-data.json"));
 
 
-        ObjectMapper mockObjectMapper = TestHelper.createMockURLObjectMapper(urlPath -> switch (urlPath) {
+        HttpTransport mockTransport = TestHelper.createMockHttpTransport(urlPath -> switch (urlPath) {
             case "/search/results/" -> listTreeNode;
             case "/IStoreBrowseService/GetItems/v1" -> itemTreeNode;
             default -> null;
         });
 
-        this.steamScraper = new SteamScraper(mockObjectMapper);
+        this.steamScraper = new SteamScraper(mapper, new SteamRequests(mapper, mockTransport), new SteamWebScraper(mockTransport));
     }
 
     @BeforeEach
@@ -136,4 +147,40 @@ class SteamScraperTest {
         TestHelper.assertCollectionEquals(expectedGamesWithoutMatureContentList, returnedGames);
     }
 
+    @Test
+    void testIdsAreRequestedOnceAcrossSearchPages() throws IOException, GameRetrievalException {
+        ObjectMapper mapper = new ObjectMapper();
+        List<Long> requestedIds = Collections.synchronizedList(new ArrayList<>());
+
+        HttpTransport mockTransport = request -> {
+            ObjectNode responseNode = mapper.createObjectNode();
+
+            if (request.url().encodedPath().equals("/search/results/")) {
+                // The first page holds apps 0-49. Apps 45-49 shift onto the second page, which holds apps 45-54
+                int firstId = request.url().queryParameter("start").equals("0") ? 0 : 45;
+                int itemCount = firstId == 0 ? 50 : 10;
+
+                ArrayNode itemsNode = responseNode.putArray("items");
+                for (int id = firstId; id < firstId + itemCount; id++) {
+                    itemsNode.addObject().put("logo", "https://cdn.cloudflare.steamstatic.com/steam/apps/" + id + "/capsule.jpg");
+                }
+            } else {
+                try {
+                    mapper.readTree(request.url().queryParameter("input_json")).get("ids")
+                            .forEach(idNode -> requestedIds.add(idNode.get("appId").asLong()));
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                responseNode.putObject("response").putArray("store_items");
+            }
+
+            return TestHelper.createMockHttpTransport(urlPath -> responseNode).newCall(request);
+        };
+
+        new SteamScraper(mapper, new SteamRequests(mapper, mockTransport), new SteamWebScraper(mockTransport)).retrieveResults();
+
+        assertEquals(55, requestedIds.size());
+        assertEquals(55, Set.copyOf(requestedIds).size());
+    }
+
 }
@@ -0,0 +1,173 @@
+package io.github.theforbiddenai.gamefinder.utilities.cache;
+
+import io.github.theforbiddenai.gamefinder.GameFinderConfiguration;
+import io.github.theforbiddenai.gamefinder.domain.Game;
+import io.github.theforbiddenai.gamefinder.domain.Platform;
+import io.github.theforbiddenai.gamefinder.domain.RetrievalKey;
+import io.github.theforbiddenai.gamefinder.domain.ScraperResult;
+import io.github.theforbiddenai.gamefinder.utilities.concurrent.RetrievalContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ResultCacheTest {
+
+    private static final GameFinderConfiguration CONFIG = GameFinderConfiguration.getInstance();
+
+    private final RetrievalKey key = RetrievalKey.of(Platform.STEAM);
+
+    @BeforeEach
+    void enableCache() {
+        CONFIG.setResultCacheTtl(Duration.ofMinutes(10));
+    }
+
+    @AfterEach
+    void disableCache() {
+        CONFIG.setResultCacheTtl(Duration.ZERO);
+    }
+
+    @Test
+    void testFreshResultsAreServedFromCache() {
+        ResultCache resultCache = new ResultCache();
+        AtomicInteger loadCount = new AtomicInteger();
+        Game game = Game.builder().title("Game 1").build();
+
+        Collection<ScraperResult> results = null;
+        for (int i = 0; i < 3; i++) {
+            results = resultCache.get(key, new RetrievalContext(null), context -> {
+                loadCount.incrementAndGet();
+                return CompletableFuture.completedFuture(List.of(new ScraperResult(CompletableFuture.completedFuture(game))));
+            }).join();
+        }
+
+        assertEquals(1, loadCount.get());
+        // The cached results hold the resolved game instead of its future
+        assertEquals(List.of(new ScraperResult(game)), List.copyOf(results));
+    }
+
+    @Test
+    void testCachedGamesCanNotBeChangedByCallers() {
+        ResultCache resultCache = new ResultCache();
+        Game game = Game.builder().title("Game 1").build();
+        game.getMedia().add("https://cdn.example.com/1.jpg");
+
+        Collection<ScraperResult> firstResults = resultCache.get(key, new RetrievalContext(null),
+                context -> CompletableFuture.completedFuture(List.of(new ScraperResult(game)))).join();
+
+        // Changing the game that was cached, or a game served from the cache, must not change the cache
+        game.setTitle("Changed by the scraper");
+        Game servedGame = resultCache.get(key, new RetrievalContext(null), context -> new CompletableFuture<>())
+                .join().iterator().next().getGame();
+        servedGame.setTitle("Changed by a caller");
+        servedGame.getMedia().clear();
+
+        Game cachedGame = resultCache.get(key, new RetrievalContext(null), context -> new CompletableFuture<>())
+                .join().iterator().next().getGame();
+
+        assertEquals(1, firstResults.size());
+        assertEquals("Game 1", cachedGame.getTitle());
+        assertEquals(List.of("https://cdn.example.com/1.jpg"), cachedGame.getMedia());
+    }
+
+    @Test
+    void testFirstCallerCanNotChangeGamesBeforeTheyAreCached() {
+        ResultCache resultCache = new ResultCache();
+        CompletableFuture<Game> firstFutureGame = new CompletableFuture<>();
+        CompletableFuture<Game> secondFutureGame = new CompletableFuture<>();
+
+        Collection<ScraperResult> firstResults = resultCache.get(key, new RetrievalContext(null),
+                context -> CompletableFuture.completedFuture(List.of(new ScraperResult(firstFutureGame),
+                        new ScraperResult(secondFutureGame)))).join();
+
+        // The results are not cached until every game resolves, so the caller changes its game before then
+        Game game = Game.builder().title("Game 1").build();
+        game.getMedia().add("https://cdn.example.com/1.jpg");
+        firstFutureGame.complete(game);
+
+        Game firstCallerGame = firstResults.iterator().next().getFutureGame().join();
+        firstCallerGame.setTitle("Changed by the first caller");
+        firstCallerGame.getMedia().clear();
+
+        secondFutureGame.complete(Game.builder().title("Game 2").build());
+
+        Game cachedGame = resultCache.get(key, new RetrievalContext(null), context -> new CompletableFuture<>())
+                .join().iterator().next().getGame();
+
+        assertEquals("Game 1", cachedGame.getTitle());
+        assertEquals(List.of("https://cdn.example.com/1.jpg"), cachedGame.getMedia());
+    }
+
+    @Test
+    void testExpiredGamesAreDroppedAndRefreshed() {
+        ResultCache resultCache = new ResultCache();
+        AtomicInteger loadCount = new AtomicInteger();
+
+        Game expiredGame = Game.builder()
+                .title("Game 1")
+                .expirationEpoch(Instant.now().minusSeconds(60).getEpochSecond())
+                .build();
+        Game game = Game.builder().title("Game 2").build();
+
+        resultCache.get(key, new RetrievalContext(null), context -> {
+            loadCount.incrementAndGet();
+            return CompletableFuture.completedFuture(List.of(new ScraperResult(expiredGame), new ScraperResult(game)));
+        }).join();
+
+        // The expired game is dropped from the stale results, and the results are refreshed in the background
+        Collection<ScraperResult> results = resultCache.get(key, new RetrievalContext(null), context -> {
+            loadCount.incrementAndGet();
+            return CompletableFuture.completedFuture(List.of(new ScraperResult(game)));
+        }).join();
+
+        assertEquals(List.of(new ScraperResult(game)), List.copyOf(results));
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    void testSnapshotIsServedWhileRefreshing(@TempDir Path tempDir) throws IOException {
+        Path snapshotFile = tempDir.resolve("snapshot.bin");
+        Game game = Game.builder()
+                .title("Game 1")
+                .description(null)
+                .url("https://store.steampowered.com/app/1")
+                .originalPrice("$9.99")
+                .platform(Platform.STEAM)
+                .storeMedia(Map.of("header", "https://example.com/header.jpg"))
+                .media(List.of("https://example.com/screenshot.jpg"))
+                .expirationEpoch(Instant.now().plusSeconds(3600).getEpochSecond())
+                .build();
+
+        ResultCache resultCache = new ResultCache();
+        resultCache.get(key, new RetrievalContext(null), context ->
+                CompletableFuture.completedFuture(List.of(new ScraperResult(game)))).join();
+        resultCache.saveSnapshot(snapshotFile);
+
+        ResultCache restartedCache = new ResultCache();
+        assertEquals(1, restartedCache.loadSnapshot(snapshotFile));
+
+        // The snapshot's results are served immediately, and are refreshed in the background
+        AtomicInteger loadCount = new AtomicInteger();
+        CompletableFuture<Collection<ScraperResult>> refreshFuture = new CompletableFuture<>();
+        Collection<ScraperResult> results = restartedCache.get(key, new RetrievalContext(null), context -> {
+            loadCount.incrementAndGet();
+            return refreshFuture;
+        }).join();
+
+        assertEquals(List.of(new ScraperResult(game)), List.copyOf(results));
+        assertEquals(1, loadCount.get());
+    }
+
+}
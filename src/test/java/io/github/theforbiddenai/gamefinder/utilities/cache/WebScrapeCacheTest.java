@@ -0,0 +1,146 @@
+package io.github.theforbiddenai.gamefinder.utilities.cache;
+
+import io.github.theforbiddenai.gamefinder.GameFinderConfiguration;
+import io.github.theforbiddenai.gamefinder.constants.GameFinderConstants;
+import io.github.theforbiddenai.gamefinder.utilities.concurrent.RetrievalContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WebScrapeCacheTest {
+
+    private static final GameFinderConfiguration CONFIG = GameFinderConfiguration.getInstance();
+
+    @BeforeEach
+    void enableCache() {
+        CONFIG.setWebScrapeCacheTtl(Duration.ofMinutes(10));
+    }
+
+    @AfterEach
+    void disableCache() {
+        CONFIG.setWebScrapeCacheTtl(Duration.ZERO);
+    }
+
+    @Test
+    void testConcurrentRequestsShareOneFetch() {
+        WebScrapeCache<Long> cache = new WebScrapeCache<>(expirationEpoch -> GameFinderConstants.NO_EXPIRATION_EPOCH);
+        CompletableFuture<Long> fetch = new CompletableFuture<>();
+        AtomicInteger fetchCount = new AtomicInteger();
+
+        CompletableFuture<Long> firstResult = cache.get("url", () -> {
+            fetchCount.incrementAndGet();
+            return fetch;
+        });
+        CompletableFuture<Long> secondResult = cache.get("url", () -> {
+            fetchCount.incrementAndGet();
+            return fetch;
+        });
+
+        fetch.complete(1L);
+
+        assertEquals(1, fetchCount.get());
+        assertEquals(1L, firstResult.join());
+        assertEquals(1L, secondResult.join());
+    }
+
+    @Test
+    void testFailuresAreCached() {
+        WebScrapeCache<Long> cache = new WebScrapeCache<>(expirationEpoch -> GameFinderConstants.NO_EXPIRATION_EPOCH);
+        AtomicInteger fetchCount = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            CompletableFuture<Long> result = cache.get("url", () -> {
+                fetchCount.incrementAndGet();
+                return CompletableFuture.failedFuture(new IOException("Unable to connect"));
+            });
+            assertThrows(CompletionException.class, result::join);
+        }
+
+        assertEquals(1, fetchCount.get());
+    }
+
+    @Test
+    void testFirstRequesterDeadlineDoesNotFailSharedFetch() {
+        WebScrapeCache<Long> cache = new WebScrapeCache<>(expirationEpoch -> GameFinderConstants.NO_EXPIRATION_EPOCH);
+        CompletableFuture<Long> fetch = new CompletableFuture<>();
+        AtomicReference<RetrievalContext> fetchContext = new AtomicReference<>();
+
+        RetrievalContext firstRequester = new RetrievalContext(Instant.now().plusMillis(50));
+        CompletableFuture<Long> firstResult = firstRequester.wrap(() -> cache.get("url", () -> {
+            fetchContext.set(RetrievalContext.current());
+            return fetch;
+        })).get();
+
+        // The first requester's deadline passes, and its retrieval is cancelled
+        assertThrows(CompletionException.class, firstResult::join);
+        firstRequester.cancel();
+
+        CompletableFuture<Long> secondResult = cache.get("url", () -> CompletableFuture.completedFuture(2L));
+        fetch.complete(1L);
+
+        // The fetch ran under its own context, so it was neither bound by the deadline nor cancelled
+        assertNotSame(firstRequester, fetchContext.get());
+        assertFalse(fetchContext.get().isCancelled());
+        assertEquals(1L, secondResult.join());
+    }
+
+    @Test
+    void testTimeoutsAreNotCached() {
+        WebScrapeCache<Long> cache = new WebScrapeCache<>(expirationEpoch -> GameFinderConstants.NO_EXPIRATION_EPOCH);
+
+        CompletableFuture<Long> result = cache.get("url", () -> CompletableFuture.failedFuture(new InterruptedIOException("timeout")));
+        assertThrows(CompletionException.class, result::join);
+
+        assertEquals(1L, cache.get("url", () -> CompletableFuture.completedFuture(1L)).join());
+    }
+
+    @Test
+    void testExpiredDataIsNotReused() {
+        // The data is its own expiration epoch, which has already passed
+        WebScrapeCache<Long> cache = new WebScrapeCache<>(expirationEpoch -> expirationEpoch);
+        long expiredEpoch = Instant.now().minusSeconds(60).getEpochSecond();
+        AtomicInteger fetchCount = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            cache.get("url", () -> {
+                fetchCount.incrementAndGet();
+                return CompletableFuture.completedFuture(expiredEpoch);
+            }).join();
+        }
+
+        assertEquals(2, fetchCount.get());
+    }
+
+    @Test
+    void testLeastRecentlyUsedPageIsEvicted() {
+        CONFIG.setWebScrapeCacheMaxEntries(2);
+        try {
+            WebScrapeCache<Long> cache = new WebScrapeCache<>(expirationEpoch -> GameFinderConstants.NO_EXPIRATION_EPOCH);
+
+            cache.get("url1", () -> CompletableFuture.completedFuture(1L));
+            cache.get("url2", () -> CompletableFuture.completedFuture(2L));
+            cache.get("url3", () -> CompletableFuture.completedFuture(3L));
+
+            assertEquals(2, cache.size());
+            // url1 was evicted, so it is fetched again
+            assertEquals(10L, cache.get("url1", () -> CompletableFuture.completedFuture(10L)).join());
+        } finally {
+            CONFIG.setWebScrapeCacheMaxEntries(1000);
+        }
+    }
+
+}
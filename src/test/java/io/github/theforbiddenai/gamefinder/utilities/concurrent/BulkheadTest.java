@@ -0,0 +1,131 @@
+package io.github.theforbiddenai.gamefinder.utilities.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulkheadTest {
+
+    @Test
+    void testBulkheadCapsConcurrency() throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        Bulkhead bulkhead = new Bulkhead(() -> executorService, () -> 2);
+
+        AtomicInteger runningTasks = new AtomicInteger();
+        AtomicInteger maxRunningTasks = new AtomicInteger();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < 20; i++) {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    maxRunningTasks.accumulateAndGet(runningTasks.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(10);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    runningTasks.decrementAndGet();
+                }, bulkhead));
+            }
+
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } finally {
+            // A task's future completes before its slot is released, so wait for the executor to finish releasing them
+            executorService.shutdown();
+            assertTrue(executorService.awaitTermination(5, TimeUnit.SECONDS));
+        }
+
+        assertTrue(maxRunningTasks.get() <= 2);
+        assertEquals(0, bulkhead.getRunningCount());
+        assertEquals(0, bulkhead.getQueuedCount());
+    }
+
+    @Test
+    void testAsyncTaskHoldsSlotUntilItsFutureCompletes() throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        Bulkhead bulkhead = new Bulkhead(() -> executorService, () -> 1);
+
+        CompletableFuture<String> firstTaskFuture = new CompletableFuture<>();
+        AtomicInteger startedTasks = new AtomicInteger();
+
+        try {
+            CompletableFuture<String> firstResult = bulkhead.executeAsync(() -> {
+                startedTasks.incrementAndGet();
+                return firstTaskFuture;
+            });
+            CompletableFuture<String> secondResult = bulkhead.executeAsync(() -> {
+                startedTasks.incrementAndGet();
+                return CompletableFuture.completedFuture("second");
+            });
+
+            // The first task returned without completing, so the second task must wait for its slot
+            assertEquals(1, startedTasks.get());
+            assertEquals(1, bulkhead.getQueuedCount());
+
+            firstTaskFuture.complete("first");
+
+            assertEquals("first", firstResult.join());
+            assertEquals("second", secondResult.join());
+            assertEquals(2, startedTasks.get());
+        } finally {
+            executorService.shutdown();
+            assertTrue(executorService.awaitTermination(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(0, bulkhead.getRunningCount());
+        assertEquals(0, bulkhead.getQueuedCount());
+    }
+
+    @Test
+    void testQueuedTasksAreFailedOnceExecutorShutsDown() throws InterruptedException {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        Bulkhead bulkhead = new Bulkhead(() -> executorService, () -> 1);
+
+        CountDownLatch runningTaskLatch = new CountDownLatch(1);
+        CompletableFuture<String> runningTask = bulkhead.supplyAsync(() -> {
+            try {
+                runningTaskLatch.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return "running";
+        });
+
+        // These tasks wait for the running task's slot
+        CompletableFuture<String> queuedTask = bulkhead.supplyAsync(() -> "queued");
+        CompletableFuture<String> queuedAsyncTask = bulkhead.executeAsync(() -> CompletableFuture.completedFuture("queued"));
+        FutureTask<String> queuedFutureTask = new FutureTask<>(() -> "queued");
+        bulkhead.execute(queuedFutureTask);
+        assertEquals(3, bulkhead.getQueuedCount());
+
+        // The running task finishes after the executor has been shut down, so every queued task is rejected
+        executorService.shutdown();
+        runningTaskLatch.countDown();
+
+        assertEquals("running", runningTask.join());
+        assertTrue(executorService.awaitTermination(5, TimeUnit.SECONDS));
+
+        CompletionException queuedTaskException = assertThrows(CompletionException.class, queuedTask::join);
+        assertTrue(queuedTaskException.getCause() instanceof RejectedExecutionException);
+        assertThrows(CompletionException.class, queuedAsyncTask::join);
+        assertTrue(queuedFutureTask.isCancelled());
+
+        assertEquals(0, bulkhead.getRunningCount());
+        assertEquals(0, bulkhead.getQueuedCount());
+    }
+
+}
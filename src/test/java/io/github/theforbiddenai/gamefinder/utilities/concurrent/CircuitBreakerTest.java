@@ -0,0 +1,46 @@
+package io.github.theforbiddenai.gamefinder.utilities.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CircuitBreakerTest {
+
+    @Test
+    void testCircuitBreakerOpensAfterThreshold() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(() -> 2, () -> Duration.ofMinutes(1));
+
+        assertTrue(circuitBreaker.tryAcquire());
+        circuitBreaker.recordFailure();
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+
+        assertTrue(circuitBreaker.tryAcquire());
+        circuitBreaker.recordFailure();
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        // An open breaker fails fast
+        assertFalse(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    void testCircuitBreakerTrialCall() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(() -> 1, () -> Duration.ZERO);
+
+        assertTrue(circuitBreaker.tryAcquire());
+        circuitBreaker.recordFailure();
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        // The open duration has passed, so a single trial call is let through
+        assertTrue(circuitBreaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquire());
+
+        circuitBreaker.recordSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+}
@@ -0,0 +1,88 @@
+package io.github.theforbiddenai.gamefinder.utilities.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTest {
+
+    @Test
+    void testConcurrentCallersShareOneTask() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        CompletableFuture<String> task = new CompletableFuture<>();
+        AtomicInteger startCount = new AtomicInteger();
+
+        CompletableFuture<String> firstResult = singleFlight.execute("key", new RetrievalContext(null), context -> {
+            startCount.incrementAndGet();
+            return task;
+        });
+        CompletableFuture<String> secondResult = singleFlight.execute("key", new RetrievalContext(null), context -> {
+            startCount.incrementAndGet();
+            return task;
+        });
+
+        task.complete("result");
+
+        assertEquals(1, startCount.get());
+        assertEquals("result", firstResult.join());
+        assertEquals("result", secondResult.join());
+        // Once the task is finished, it is no longer in flight
+        assertEquals(0, singleFlight.getInFlightCount());
+    }
+
+    @Test
+    void testTaskIsCancelledOnceEveryCallerCancels() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        AtomicReference<RetrievalContext> taskContext = new AtomicReference<>();
+
+        RetrievalContext firstCaller = new RetrievalContext(null);
+        RetrievalContext secondCaller = new RetrievalContext(null);
+
+        singleFlight.execute("key", firstCaller, context -> {
+            taskContext.set(context);
+            return new CompletableFuture<>();
+        });
+        singleFlight.execute("key", secondCaller, context -> new CompletableFuture<>());
+
+        firstCaller.cancel();
+        assertFalse(taskContext.get().isCancelled());
+
+        secondCaller.cancel();
+        assertTrue(taskContext.get().isCancelled());
+    }
+
+    @Test
+    void testTaskDeadlineIsLatestCallerDeadline() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        AtomicReference<RetrievalContext> taskContext = new AtomicReference<>();
+
+        Instant firstDeadline = Instant.now().plusSeconds(5);
+        Instant secondDeadline = firstDeadline.plusSeconds(5);
+
+        singleFlight.execute("key", new RetrievalContext(firstDeadline), context -> {
+            taskContext.set(context);
+            return new CompletableFuture<>();
+        });
+        assertEquals(firstDeadline, taskContext.get().getDeadline());
+
+        singleFlight.execute("key", new RetrievalContext(secondDeadline), context -> new CompletableFuture<>());
+        assertEquals(secondDeadline, taskContext.get().getDeadline());
+
+        // An earlier deadline does not shorten the task
+        singleFlight.execute("key", new RetrievalContext(firstDeadline), context -> new CompletableFuture<>());
+        assertEquals(secondDeadline, taskContext.get().getDeadline());
+
+        // A caller without a deadline removes it
+        singleFlight.execute("key", new RetrievalContext(null), context -> new CompletableFuture<>());
+        assertNull(taskContext.get().getDeadline());
+    }
+
+}
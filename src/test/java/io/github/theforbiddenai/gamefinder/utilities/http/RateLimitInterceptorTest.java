@@ -0,0 +1,175 @@
+package io.github.theforbiddenai.gamefinder.utilities.http;
+
+import io.github.theforbiddenai.gamefinder.GameFinderConfiguration;
+import okhttp3.Call;
+import okhttp3.Interceptor;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RateLimitInterceptorTest {
+
+    private static final GameFinderConfiguration CONFIG = GameFinderConfiguration.getInstance();
+
+    private static final long SECOND_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    @AfterEach
+    void resetHostRateLimits() {
+        CONFIG.getHostRateLimits().clear();
+    }
+
+    @Test
+    void testBucketRefillsAtItsRate() {
+        RateLimitInterceptor.HostBucket hostBucket = new RateLimitInterceptor.HostBucket();
+
+        // The bucket starts with a burst of one second's worth of requests
+        assertEquals(0, hostBucket.reserve(2, 0));
+        assertEquals(0, hostBucket.reserve(2, 0));
+        assertEquals(SECOND_NANOS / 2, hostBucket.reserve(2, 0));
+
+        // One second later, the bucket has refilled the two tokens it earned (one of which was already reserved)
+        assertEquals(0, hostBucket.reserve(2, SECOND_NANOS));
+        assertEquals(SECOND_NANOS / 2, hostBucket.reserve(2, SECOND_NANOS));
+    }
+
+    @Test
+    void testThrottlingHalvesRateAndPausesForRetryAfter() {
+        RateLimitInterceptor.HostBucket hostBucket = new RateLimitInterceptor.HostBucket();
+        hostBucket.reserve(4, 0);
+
+        hostBucket.onThrottled(2 * SECOND_NANOS, 0);
+
+        // The host is paused for two seconds, and then requests are spaced out at half the rate
+        assertEquals(2 * SECOND_NANOS + SECOND_NANOS / 2, hostBucket.reserve(4, 0));
+    }
+
+    @Test
+    void testThrottlingWithoutRetryAfterBacksOffExponentially() {
+        RateLimitInterceptor.HostBucket hostBucket = new RateLimitInterceptor.HostBucket();
+        hostBucket.reserve(1, 0);
+
+        hostBucket.onThrottled(-1, 0);
+        long firstPause = hostBucket.reserve(1, 0);
+
+        RateLimitInterceptor.HostBucket secondHostBucket = new RateLimitInterceptor.HostBucket();
+        secondHostBucket.reserve(1, 0);
+        secondHostBucket.onThrottled(-1, 0);
+        secondHostBucket.onThrottled(-1, 0);
+        long secondPause = secondHostBucket.reserve(1, 0);
+
+        // Each consecutive throttle doubles the pause and halves the rate again
+        assertEquals(SECOND_NANOS + 2 * SECOND_NANOS, firstPause);
+        assertEquals(2 * SECOND_NANOS + 4 * SECOND_NANOS, secondPause);
+    }
+
+    @Test
+    void testRateRecoversAfterSuccessfulRequests() {
+        RateLimitInterceptor.HostBucket hostBucket = new RateLimitInterceptor.HostBucket();
+        hostBucket.reserve(4, 0);
+        hostBucket.onThrottled(0, 0);
+
+        // Every success restores 5% of the rate, so the rate is fully restored after 10 successes
+        for (int i = 0; i < 11; i++) {
+            hostBucket.onSuccess();
+        }
+
+        // Once the bucket has refilled, it allows a burst of 4 requests and spaces the rest out at the full rate
+        long nowNanos = 10 * SECOND_NANOS;
+        for (int i = 0; i < 4; i++) {
+            assertEquals(0, hostBucket.reserve(4, nowNanos));
+        }
+        assertEquals(SECOND_NANOS / 4, hostBucket.reserve(4, nowNanos));
+    }
+
+    @Test
+    void testRetryAfterSeconds() {
+        assertEquals(30 * SECOND_NANOS, RateLimitInterceptor.getRetryAfterNanos(createResponse(429, "30")));
+        // Retry-After is capped at 5 minutes
+        assertEquals(TimeUnit.MINUTES.toNanos(5), RateLimitInterceptor.getRetryAfterNanos(createResponse(429, "86400")));
+    }
+
+    @Test
+    void testRetryAfterHttpDate() {
+        String retryDate = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(60));
+        long retryAfterNanos = RateLimitInterceptor.getRetryAfterNanos(createResponse(503, retryDate));
+
+        // The HTTP date only has second precision
+        assertTrue(retryAfterNanos > 58 * SECOND_NANOS && retryAfterNanos <= 60 * SECOND_NANOS);
+    }
+
+    @Test
+    void testInvalidRetryAfterIsIgnored() {
+        assertEquals(-1, RateLimitInterceptor.getRetryAfterNanos(createResponse(429, "soon")));
+        assertEquals(-1, RateLimitInterceptor.getRetryAfterNanos(createResponse(429, null)));
+    }
+
+    @Test
+    void testHostsAreLimitedIndependently() throws IOException {
+        CONFIG.getHostRateLimits().put("a.example.com", 1.0);
+        CONFIG.getHostRateLimits().put("b.example.com", 1.0);
+
+        RateLimitInterceptor rateLimitInterceptor = new RateLimitInterceptor();
+
+        // Each host allows a single request per second, so a shared bucket would make the second request wait a second
+        long startNanos = System.nanoTime();
+        rateLimitInterceptor.intercept(createChain("https://a.example.com/", 200, null));
+        rateLimitInterceptor.intercept(createChain("https://b.example.com/", 200, null));
+
+        assertTrue(System.nanoTime() - startNanos < SECOND_NANOS / 2);
+    }
+
+    @Test
+    void testThrottledResponsePausesHost() throws IOException {
+        CONFIG.getHostRateLimits().put("a.example.com", 1000.0);
+
+        RateLimitInterceptor rateLimitInterceptor = new RateLimitInterceptor();
+        rateLimitInterceptor.intercept(createChain("https://a.example.com/", 429, "1"));
+
+        long startNanos = System.nanoTime();
+        rateLimitInterceptor.intercept(createChain("https://a.example.com/", 200, null));
+
+        assertTrue(System.nanoTime() - startNanos >= SECOND_NANOS * 9 / 10);
+    }
+
+    private Response createResponse(int code, String retryAfter) {
+        return createResponse(new Request.Builder().url("https://a.example.com/").build(), code, retryAfter);
+    }
+
+    private Response createResponse(Request request, int code, String retryAfter) {
+        Response.Builder builder = new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message("");
+
+        if (retryAfter != null) builder.header("Retry-After", retryAfter);
+        return builder.build();
+    }
+
+    private Interceptor.Chain createChain(String url, int code, String retryAfter) throws IOException {
+        Request request = new Request.Builder().url(url).build();
+
+        Interceptor.Chain chain = mock(Interceptor.Chain.class);
+        Call call = mock(Call.class);
+
+        when(chain.request()).thenReturn(request);
+        when(chain.call()).thenReturn(call);
+        when(chain.proceed(request)).thenReturn(createResponse(request, code, retryAfter));
+
+        return chain;
+    }
+
+}
@@ -0,0 +1,165 @@
+package io.github.theforbiddenai.gamefinder.utilities.http;
+
+import io.github.theforbiddenai.gamefinder.GameFinderConfiguration;
+import okhttp3.Call;
+import okhttp3.Interceptor;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RetryInterceptorTest {
+
+    private static final GameFinderConfiguration CONFIG = GameFinderConfiguration.getInstance();
+
+    private final Request request = new Request.Builder().url("https://a.example.com/").build();
+    private final Call call = mock(Call.class);
+
+    private int maxRetries;
+    private Duration retryBaseDelay;
+    private Duration retryMaxDelay;
+
+    @BeforeEach
+    void setupRetries() {
+        this.maxRetries = CONFIG.getMaxRetries();
+        this.retryBaseDelay = CONFIG.getRetryBaseDelay();
+        this.retryMaxDelay = CONFIG.getRetryMaxDelay();
+
+        CONFIG.setMaxRetries(2);
+        CONFIG.setRetryBaseDelay(Duration.ofMillis(1));
+        CONFIG.setRetryMaxDelay(Duration.ofMillis(5));
+    }
+
+    @AfterEach
+    void resetRetries() {
+        CONFIG.setMaxRetries(maxRetries);
+        CONFIG.setRetryBaseDelay(retryBaseDelay);
+        CONFIG.setRetryMaxDelay(retryMaxDelay);
+    }
+
+    @Test
+    void testRetryableStatusIsRetriedUntilMaxRetries() throws IOException {
+        Interceptor.Chain chain = createChain(503, 503, 503, 200);
+
+        // Two retries means three attempts, and the last attempt's response is returned even though it failed
+        assertEquals(503, new RetryInterceptor().intercept(chain).code());
+        verify(chain, times(3)).proceed(request);
+    }
+
+    @Test
+    void testRetryableStatusCodes() throws IOException {
+        for (int code : List.of(408, 429, 500, 502, 503, 504)) {
+            Interceptor.Chain chain = createChain(code, 200);
+
+            assertEquals(200, new RetryInterceptor().intercept(chain).code());
+            verify(chain, times(2)).proceed(request);
+        }
+    }
+
+    @Test
+    void testOtherStatusCodesArePassedThrough() throws IOException {
+        for (int code : List.of(200, 301, 400, 404, 501)) {
+            Interceptor.Chain chain = createChain(code, 200);
+
+            assertEquals(code, new RetryInterceptor().intercept(chain).code());
+            verify(chain, times(1)).proceed(request);
+        }
+    }
+
+    @Test
+    void testIOExceptionIsRetried() throws IOException {
+        Interceptor.Chain chain = createChain(new IOException("Connection reset"), 200);
+
+        assertEquals(200, new RetryInterceptor().intercept(chain).code());
+        verify(chain, times(2)).proceed(request);
+    }
+
+    @Test
+    void testIOExceptionIsThrownOnLastAttempt() throws IOException {
+        IOException lastException = new IOException("Connection reset");
+        Interceptor.Chain chain = createChain(new IOException("Connection reset"), new IOException("Connection reset"), lastException);
+
+        assertEquals(lastException, assertThrows(IOException.class, () -> new RetryInterceptor().intercept(chain)));
+        verify(chain, times(3)).proceed(request);
+    }
+
+    @Test
+    void testCanceledCallIsNotRetried() throws IOException {
+        Interceptor.Chain chain = createChain(new IOException("Canceled"), 200);
+        when(call.isCanceled()).thenReturn(true);
+
+        assertThrows(IOException.class, () -> new RetryInterceptor().intercept(chain));
+        verify(chain, times(1)).proceed(request);
+    }
+
+    @Test
+    void testCallCanceledDuringBackoffIsNotRetried() throws IOException {
+        Interceptor.Chain chain = createChain(503, 200);
+        // The call is canceled while the interceptor waits to retry
+        when(call.isCanceled()).thenReturn(true);
+
+        assertThrows(IOException.class, () -> new RetryInterceptor().intercept(chain));
+        verify(chain, times(1)).proceed(request);
+    }
+
+    @Test
+    void testBackoffIsBounded() {
+        CONFIG.setRetryBaseDelay(Duration.ofMillis(100));
+        CONFIG.setRetryMaxDelay(Duration.ofMillis(300));
+
+        for (int attempt = 0; attempt < 40; attempt++) {
+            long capNanos = Math.min(Duration.ofMillis(300).toNanos(), Duration.ofMillis(100).toNanos() << Math.min(attempt, 30));
+
+            for (int i = 0; i < 100; i++) {
+                long backoffNanos = RetryInterceptor.getBackoffNanos(CONFIG, attempt);
+                assertTrue(backoffNanos >= 0 && backoffNanos <= capNanos);
+            }
+        }
+    }
+
+    /**
+     * Creates a chain whose attempts respond with the given status codes or throw the given exceptions, in order
+     *
+     * @param outcomes A status code or an IOException for each attempt
+     * @return A mock chain
+     */
+    private Interceptor.Chain createChain(Object... outcomes) throws IOException {
+        Queue<Object> remainingOutcomes = new ArrayDeque<>(List.of(outcomes));
+
+        Interceptor.Chain chain = mock(Interceptor.Chain.class);
+        when(chain.request()).thenReturn(request);
+        when(chain.call()).thenReturn(call);
+        when(chain.proceed(request)).thenAnswer(invocation -> {
+            Object outcome = remainingOutcomes.remove();
+            if (outcome instanceof IOException ex) throw ex;
+
+            return new Response.Builder()
+                    .request(request)
+                    .protocol(Protocol.HTTP_1_1)
+                    .code((int) outcome)
+                    .message("")
+                    .body(ResponseBody.create("", null))
+                    .build();
+        });
+
+        return chain;
+    }
+
+}
@@ -0,0 +1,77 @@
+package io.github.theforbiddenai.gamefinder.utilities.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FilteredJsonReaderTest {
+
+    private static final List<String> ITEMS_PATH = List.of("response", "items");
+    private static final Predicate<JsonNode> IS_FREE = itemNode -> itemNode.path("price").asInt(-1) == 0;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void testArrayElementsAreFiltered() throws IOException {
+        JsonNode result = read("{\"response\":{\"items\":[{\"id\":1,\"price\":0},{\"id\":2,\"price\":5},{\"id\":3,\"price\":0}]}}");
+
+        assertEquals(tree("{\"response\":{\"items\":[{\"id\":1,\"price\":0},{\"id\":3,\"price\":0}]}}"), result);
+    }
+
+    @Test
+    void testPathMismatchIsReadAsIs() throws IOException {
+        String json = "{\"response\":{\"products\":[{\"id\":1,\"price\":5}]},\"items\":[{\"id\":2,\"price\":5}]}";
+
+        // Neither array is at response.items, so nothing is filtered
+        assertEquals(tree(json), read(json));
+    }
+
+    @Test
+    void testTargetThatIsNotAnArrayIsReadAsIs() throws IOException {
+        String json = "{\"response\":{\"items\":{\"id\":1,\"price\":5}}}";
+
+        assertEquals(tree(json), read(json));
+    }
+
+    @Test
+    void testNestedValuesAreSkippedIntact() throws IOException {
+        // Sibling fields with nested objects and arrays (including an "items" field at the wrong depth) are kept as is,
+        // and nested arrays inside kept elements are not filtered
+        String json = "{\"meta\":{\"items\":[{\"price\":5}],\"pages\":[[1,2],[3]]}," +
+                "\"response\":{\"total\":2,\"items\":[{\"id\":1,\"price\":0,\"media\":[{\"price\":5}]},{\"id\":2,\"price\":5,\"media\":[]}]}}";
+
+        JsonNode result = read(json);
+
+        assertEquals(tree("{\"meta\":{\"items\":[{\"price\":5}],\"pages\":[[1,2],[3]]}," +
+                "\"response\":{\"total\":2,\"items\":[{\"id\":1,\"price\":0,\"media\":[{\"price\":5}]}]}}"), result);
+    }
+
+    @Test
+    void testEmptyArray() throws IOException {
+        String json = "{\"response\":{\"items\":[]}}";
+
+        assertEquals(tree(json), read(json));
+    }
+
+    @Test
+    void testEmptyStream() throws IOException {
+        assertEquals(mapper.createObjectNode(), read(""));
+    }
+
+    private JsonNode read(String json) throws IOException {
+        return FilteredJsonReader.read(mapper, new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), ITEMS_PATH, IS_FREE);
+    }
+
+    private JsonNode tree(String json) throws IOException {
+        return mapper.readTree(json);
+    }
+
+}
@@ -0,0 +1,121 @@
+package io.github.theforbiddenai.gamefinder.utilities.steam;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.theforbiddenai.gamefinder.GameFinderConfiguration;
+import io.github.theforbiddenai.gamefinder.TestHelper;
+import io.github.theforbiddenai.gamefinder.utilities.http.HttpTransport;
+import okhttp3.HttpUrl;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SteamRequestsTest {
+
+    private static final GameFinderConfiguration CONFIG = GameFinderConfiguration.getInstance();
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void testSearchPagesAreRequestedUntilPartialPage() throws IOException {
+        List<HttpUrl> requestedUrls = Collections.synchronizedList(new ArrayList<>());
+        HttpTransport transport = createTransport(requestedUrls, url -> {
+            // 110 results: two full pages of 50 and a partial page of 10
+            int start = Integer.parseInt(url.queryParameter("start"));
+            return createSearchPage(Math.min(50, 110 - start));
+        });
+
+        List<Integer> pageSizes = new ArrayList<>();
+        new SteamRequests(mapper, transport).getFreeGames(itemsNode -> pageSizes.add(itemsNode.size()));
+
+        assertEquals(List.of(50, 50, 10), pageSizes);
+        assertEquals(List.of("0", "50", "100"), requestedUrls.stream().map(url -> url.queryParameter("start")).toList());
+    }
+
+    @Test
+    void testSearchPagingStopsOnEmptyPage() throws IOException {
+        List<HttpUrl> requestedUrls = Collections.synchronizedList(new ArrayList<>());
+        HttpTransport transport = createTransport(requestedUrls, url ->
+                createSearchPage(url.queryParameter("start").equals("0") ? 50 : 0));
+
+        List<Integer> pageSizes = new ArrayList<>();
+        new SteamRequests(mapper, transport).getFreeGames(itemsNode -> pageSizes.add(itemsNode.size()));
+
+        assertEquals(List.of(50), pageSizes);
+        assertEquals(2, requestedUrls.size());
+    }
+
+    @Test
+    void testGetItemsWithExactlyOneChunk() throws IOException {
+        assertEquals(List.of(50), getRequestedChunkSizes(50));
+    }
+
+    @Test
+    void testGetItemsSplitsAtChunkBoundary() throws IOException {
+        assertEquals(List.of(50, 1), getRequestedChunkSizes(51));
+    }
+
+    /**
+     * Requests items for a number of ids and returns the number of ids sent in each GetItems request
+     *
+     * @param idCount The number of ids being requested
+     * @return The number of ids in each request, largest first
+     */
+    private List<Integer> getRequestedChunkSizes(int idCount) throws IOException {
+        CONFIG.setSteamItemsChunkSize(50);
+
+        List<HttpUrl> requestedUrls = Collections.synchronizedList(new ArrayList<>());
+        HttpTransport transport = createTransport(requestedUrls, url -> {
+            ObjectNode responseNode = mapper.createObjectNode();
+            responseNode.putObject("response").putArray("store_items");
+            return responseNode;
+        });
+
+        List<StoreItemId> ids = LongStream.rangeClosed(1, idCount)
+                .mapToObj(id -> new StoreItemId("appId", id))
+                .toList();
+        new SteamRequests(mapper, transport).getItems(ids, itemNode -> true);
+
+        List<Integer> chunkSizes = new ArrayList<>();
+        for (HttpUrl url : requestedUrls) {
+            chunkSizes.add(mapper.readTree(url.queryParameter("input_json")).get("ids").size());
+        }
+
+        chunkSizes.sort(Collections.reverseOrder());
+        return chunkSizes;
+    }
+
+    private JsonNode createSearchPage(int itemCount) {
+        ObjectNode pageNode = mapper.createObjectNode();
+        ArrayNode itemsNode = pageNode.putArray("items");
+
+        for (int i = 0; i < itemCount; i++) {
+            itemsNode.addObject().put("logo", "https://cdn.cloudflare.steamstatic.com/steam/apps/" + i + "/capsule.jpg");
+        }
+
+        return pageNode;
+    }
+
+    private HttpTransport createTransport(List<HttpUrl> requestedUrls, ResponseFunction responseFunction) {
+        return request -> {
+            requestedUrls.add(request.url());
+            JsonNode responseNode = responseFunction.respond(request.url());
+            return TestHelper.createMockHttpTransport(urlPath -> responseNode).newCall(request);
+        };
+    }
+
+    private interface ResponseFunction {
+
+        JsonNode respond(HttpUrl url);
+
+    }
+
+}
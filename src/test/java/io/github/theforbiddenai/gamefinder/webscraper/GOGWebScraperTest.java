@@ -1,6 +1,7 @@
 package io.github.theforbiddenai.gamefinder.webscraper;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.theforbiddenai.gamefinder.GameFinderConfiguration;
 import io.github.theforbiddenai.gamefinder.TestHelper;
 import io.github.theforbiddenai.gamefinder.domain.Game;
 import okhttp3.OkHttpClient;
@@ -54,4 +55,25 @@ class GOGWebScraperTest {
         assertEquals(this.expectedGame.hashCode(), actualGame.hashCode());
     }
 
+    @Test
+    void testGOGModifyGameAttributesAsync() throws IOException {
+        OkHttpClient mockHttpClient = TestHelper.setupOkHttpMocks(GOGWebScraperTest.class.getResourceAsStream("/scraper/gog_data/gog-game-page.html"));
+        GOGWebScraper asyncWebScraper = new GOGWebScraper(mockHttpClient, new ObjectMapper());
+
+        Game actualGame = Game.builder()
+                .url("https://gog.com/")
+                .build();
+
+        GameFinderConfiguration config = GameFinderConfiguration.getInstance();
+        config.useAsyncWebScraping(true);
+
+        try {
+            asyncWebScraper.modifyGameAttributes(actualGame).join();
+        } finally {
+            config.useAsyncWebScraping(false);
+        }
+
+        assertEquals(this.expectedGame, actualGame);
+    }
+
 }
@@ -0,0 +1,116 @@
+package io.github.theforbiddenai.gamefinder.webscraper;
+
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.Okio;
+import okio.Source;
+import okio.Timeout;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PageScannerTest {
+
+    private static final PageScanner STARTING_WITH = PageScanner.startingWith("cardProduct:");
+    private static final PageScanner CONTAINING = PageScanner.containing("cardProduct:");
+
+    @Test
+    void testCRLFLineEndings() throws IOException {
+        BufferedSource source = source("<html>\r\n  cardProduct: {\"id\":1}\r\n</html>\r\n");
+
+        assertEquals("cardProduct: {\"id\":1}", STARTING_WITH.nextMatchingLine(source));
+        assertNull(STARTING_WITH.nextMatchingLine(source));
+    }
+
+    @Test
+    void testBlankLinesAreSkipped() throws IOException {
+        BufferedSource source = source("\n\n   \n\t\r\ncardProduct: 1\n\n");
+
+        assertEquals("cardProduct: 1", STARTING_WITH.nextMatchingLine(source));
+        assertNull(STARTING_WITH.nextMatchingLine(source));
+    }
+
+    @Test
+    void testMarkerOnLastLineWithoutNewline() throws IOException {
+        BufferedSource source = source("<html>\n</html>\n    cardProduct: 1");
+
+        assertEquals("cardProduct: 1", STARTING_WITH.nextMatchingLine(source));
+        assertNull(STARTING_WITH.nextMatchingLine(source));
+    }
+
+    @Test
+    void testMarkerSplitAcrossReads() throws IOException {
+        // The source hands out one byte per read, so the marker arrives across many reads
+        BufferedSource source = Okio.buffer(new OneByteSource(new Buffer().writeUtf8("<div>\n  cardProduct: 1\n")));
+
+        assertEquals("cardProduct: 1", STARTING_WITH.nextMatchingLine(source));
+    }
+
+    @Test
+    void testMarkerSplitAcrossSegments() throws IOException {
+        // Okio segments hold 8192 bytes, so the marker straddles the first two segments
+        String padding = "x".repeat(8192 - 5);
+        BufferedSource source = source(padding + " cardProduct: 1\nafter\n");
+
+        assertEquals(padding + " cardProduct: 1", CONTAINING.nextMatchingLine(source));
+        assertNull(CONTAINING.nextMatchingLine(source));
+    }
+
+    @Test
+    void testContainingAndStartingWith() throws IOException {
+        String page = "var x = cardProduct: 1\n  cardProduct: 2\n";
+
+        BufferedSource startingWithSource = source(page);
+        assertEquals("cardProduct: 2", STARTING_WITH.nextMatchingLine(startingWithSource));
+        assertNull(STARTING_WITH.nextMatchingLine(startingWithSource));
+
+        BufferedSource containingSource = source(page);
+        assertEquals("var x = cardProduct: 1", CONTAINING.nextMatchingLine(containingSource));
+        assertEquals("cardProduct: 2", CONTAINING.nextMatchingLine(containingSource));
+        assertNull(CONTAINING.nextMatchingLine(containingSource));
+    }
+
+    @Test
+    void testMarkerIsNotMatchedAcrossLines() throws IOException {
+        BufferedSource source = source("cardProd\nuct: 1\n");
+
+        assertNull(CONTAINING.nextMatchingLine(source));
+    }
+
+    private static BufferedSource source(String page) {
+        return new Buffer().writeUtf8(page);
+    }
+
+    /**
+     * A source that only hands out one byte per read
+     */
+    private static class OneByteSource implements Source {
+
+        private final Buffer data;
+
+        private OneByteSource(Buffer data) {
+            this.data = data;
+        }
+
+        @Override
+        public long read(Buffer sink, long byteCount) {
+            if (data.exhausted()) return -1;
+            sink.write(data, 1);
+            return 1;
+        }
+
+        @Override
+        public Timeout timeout() {
+            return Timeout.NONE;
+        }
+
+        @Override
+        public void close() {
+        }
+
+    }
+
+}
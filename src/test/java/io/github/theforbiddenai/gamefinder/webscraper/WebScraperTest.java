@@ -0,0 +1,171 @@
+package io.github.theforbiddenai.gamefinder.webscraper;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github.theforbiddenai.gamefinder.domain.Game;
+import io.github.theforbiddenai.gamefinder.domain.Platform;
+import io.github.theforbiddenai.gamefinder.utilities.http.HttpTransport;
+import io.github.theforbiddenai.gamefinder.utilities.http.OkHttpTransport;
+import okhttp3.Cache;
+import okhttp3.Call;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.Timeout;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WebScraperTest {
+
+    private static final String PAGE = "Cool Game\n" + "<p>The rest of the page</p>\n".repeat(1000);
+
+    @Test
+    void testRevalidatedPageIsServedFromDiskCache(@TempDir Path cacheDirectory) throws IOException {
+        List<Integer> sentStatusCodes = new CopyOnWriteArrayList<>();
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            // The page must be revalidated every time it is requested
+            exchange.getResponseHeaders().set("ETag", "\"v1\"");
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+
+            if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                sentStatusCodes.add(304);
+                exchange.sendResponseHeaders(304, -1);
+            } else {
+                byte[] page = PAGE.getBytes(StandardCharsets.UTF_8);
+                sentStatusCodes.add(200);
+                exchange.sendResponseHeaders(200, page.length);
+                try (OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(page);
+                }
+            }
+            exchange.close();
+        });
+        server.start();
+
+        Cache cache = new Cache(cacheDirectory.toFile(), 1024 * 1024);
+        OkHttpTransport transport = new OkHttpTransport(new OkHttpClient.Builder().cache(cache).build());
+        String url = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/game";
+
+        try {
+            // Each web scraper has its own web scrape cache, so the second one has to request the page again
+            Game firstGame = Game.builder().url(url).build();
+            new TitleWebScraper(transport).modifyGameAttributes(firstGame).join();
+
+            Game secondGame = Game.builder().url(url).build();
+            new TitleWebScraper(transport).modifyGameAttributes(secondGame).join();
+
+            assertEquals("Cool Game", firstGame.getTitle());
+            assertEquals("Cool Game", secondGame.getTitle());
+        } finally {
+            server.stop(0);
+            cache.close();
+        }
+
+        // The first page was only partially processed, but it was still stored, so the second request was a revalidation
+        assertEquals(List.of(200, 304), sentStatusCodes);
+        assertEquals(2, cache.requestCount());
+        assertEquals(1, cache.hitCount());
+    }
+
+    @Test
+    void testPageIsDrainedWhenTransportHasCache() {
+        Buffer page = new Buffer().writeUtf8(PAGE);
+        Call call = createCall(page);
+
+        new TitleWebScraper(new HttpTransport() {
+            @Override
+            public Call newCall(Request request) {
+                return call;
+            }
+
+            @Override
+            public boolean hasCache() {
+                return true;
+            }
+        }).modifyGameAttributes(Game.builder().url("https://example.com/").build()).join();
+
+        assertEquals(0, page.size());
+        verify(call, never()).cancel();
+    }
+
+    @Test
+    void testCallIsCanceledWhenTransportHasNoCache() {
+        Buffer page = new Buffer().writeUtf8(PAGE);
+        Call call = createCall(page);
+
+        new TitleWebScraper(request -> call).modifyGameAttributes(Game.builder().url("https://example.com/").build()).join();
+
+        // Only the first line was read
+        assertTrue(page.size() > 0);
+        verify(call).cancel();
+    }
+
+    private Call createCall(Buffer page) {
+        Request request = new Request.Builder().url("https://example.com/").build();
+        Response response = new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK")
+                .body(ResponseBody.create(page, null, page.size()))
+                .build();
+
+        Call call = mock(Call.class);
+        try {
+            when(call.execute()).thenReturn(response);
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        when(call.timeout()).thenReturn(new Timeout());
+
+        return call;
+    }
+
+    /**
+     * Uses the first line of a page as the game's title
+     */
+    private static class TitleWebScraper extends WebScraper<String> {
+
+        private TitleWebScraper(HttpTransport transport) {
+            super("", Platform.UNDEFINED, transport);
+        }
+
+        @Override
+        protected void modifyGameAttributes(String title, Game game) {
+            game.setTitle(title);
+        }
+
+        @Override
+        protected String processHTML(BufferedSource source, String url) throws IOException {
+            return source.readUtf8LineStrict();
+        }
+
+        @Override
+        protected String getLocaleCookie() {
+            return null;
+        }
+
+    }
+
+}